@@ -1,13 +1,18 @@
 package com.m42hub.m42hub_api.config;
 
+import com.m42hub.m42hub_api.exceptions.BadRequestException;
 import com.m42hub.m42hub_api.exceptions.ConflictException;
 import com.m42hub.m42hub_api.exceptions.CustomNotFoundException;
+import com.m42hub.m42hub_api.exceptions.ServiceUnavailableException;
 import com.m42hub.m42hub_api.exceptions.UnauthorizedException;
 import com.m42hub.m42hub_api.exceptions.UsernameOrPasswordInvalidException;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -38,6 +43,12 @@ public class ApplicationControllerAdvice {
         return exception.getMessage();
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleBadRequestException(BadRequestException exception) {
+        return exception.getMessage();
+    }
+
     @ExceptionHandler(UsernameOrPasswordInvalidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public String handleUsernameOrPasswordInvalidException(UsernameOrPasswordInvalidException exception) {
@@ -67,4 +78,19 @@ public class ApplicationControllerAdvice {
         }
         return new ResponseEntity<>("Verifique os dados fornecidos e tente novamente. Se o problema persistir, entre em contato com o suporte.", HttpStatus.CONFLICT);
     }
+
+    // Pool de conexões esgotado (ou banco fora do ar): o cliente pode tentar de novo em instantes
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<String> handleConnectionUnavailable(Exception exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("Serviço temporariamente sobrecarregado. Tente novamente em instantes.");
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<String> handleServiceUnavailableException(ServiceUnavailableException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(exception.getMessage());
+    }
 }
@@ -0,0 +1,100 @@
+package com.m42hub.m42hub_api.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.m42hub.m42hub_api.shared.cache.AsyncCaches;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+@Component
+public class AuthenticationCache {
+
+    private final AsyncCache<String, CachedAuthentication> cache;
+
+    public AuthenticationCache(
+            @Value("${m42hub.security.auth-cache.ttl}") Duration ttl,
+            @Value("${m42hub.security.auth-cache.max-size}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String key, CachedAuthentication value) -> expiresIn(value, ttl)))
+                .buildAsync();
+    }
+
+    public CachedAuthentication get(String token, Supplier<CachedAuthentication> loader) {
+        return AsyncCaches.get(cache, digest(token), loader);
+    }
+
+    public void evictUser(Long userId) {
+        evict(entry -> Objects.equals(entry.userData().id(), userId));
+    }
+
+    public void evictAll() {
+        evict(entry -> true);
+    }
+
+    // A remoção vale só para esta instância: nas demais o estado antigo segue em cache por até auth-cache.ttl
+    private void evict(Predicate<CachedAuthentication> filter) {
+        removeIf(filter);
+
+        // Uma requisição concorrente pode recarregar o estado antigo antes do commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeIf(filter);
+                }
+            });
+        }
+    }
+
+    // Cargas ainda em andamento também saem: podem ter lido o usuário antes do commit, e o resultado delas
+    // deixa de ser gravado no cache (quem já esperava por elas recebe o valor, que era o vigente quando chegou)
+    private void removeIf(Predicate<CachedAuthentication> filter) {
+        cache.asMap().values().removeIf(future -> !future.isDone()
+                || future.isCompletedExceptionally()
+                || future.join() == null
+                || filter.test(future.join()));
+    }
+
+    private static Duration expiresIn(CachedAuthentication value, Duration ttl) {
+        if (value.userData().expiresAt() == null) {
+            return ttl;
+        }
+
+        Duration untilTokenExpires = Duration.between(Instant.now(), value.userData().expiresAt());
+        if (untilTokenExpires.isNegative()) {
+            return Duration.ZERO;
+        }
+
+        return untilTokenExpires.compareTo(ttl) < 0 ? untilTokenExpires : ttl;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record CachedAuthentication(JWTUserData userData, Collection<? extends GrantedAuthority> authorities, boolean active) {
+    }
+
+}
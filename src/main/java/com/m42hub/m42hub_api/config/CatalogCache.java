@@ -0,0 +1,171 @@
+package com.m42hub.m42hub_api.config;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class CatalogCache<T> {
+
+    // Outras instâncias da API não recebem a invalidação, então o snapshot também expira por tempo
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final Supplier<List<T>> loader;
+    private final Function<T, Long> idExtractor;
+    private final Function<T, List<?>> contentExtractor;
+    private final AtomicReference<Snapshot<T>> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    // contentExtractor lista os campos servidos pelo catálogo; só eles entram na revisão
+    public CatalogCache(Supplier<List<T>> loader, Function<T, Long> idExtractor, Function<T, List<?>> contentExtractor) {
+        this.loader = loader;
+        this.idExtractor = idExtractor;
+        this.contentExtractor = contentExtractor;
+    }
+
+    public List<T> findAll() {
+        return current().items();
+    }
+
+    // Derivada do conteúdo do snapshot: instâncias com o mesmo catálogo calculam a mesma revisão (e o mesmo ETag)
+    public String revision() {
+        return current().revision();
+    }
+
+    public Optional<T> findById(Long id, Function<Long, Optional<T>> fallback) {
+        Snapshot<T> current = current();
+        T item = current.byId().get(id);
+        if (item != null || current.missingIds().contains(id)) {
+            return Optional.ofNullable(item);
+        }
+
+        // Registro criado depois do snapshot: busca direto e descarta o snapshot desatualizado
+        Optional<T> found = fallback.apply(id);
+        if (found.isPresent()) {
+            invalidateNow();
+        } else {
+            current.missingIds().add(id);
+        }
+        return found;
+    }
+
+    public List<T> findAllById(Collection<Long> ids, Function<Collection<Long>, List<T>> fallback) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Snapshot<T> current = current();
+        Map<Long, T> byId = current.byId();
+
+        Set<Long> missingIds = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (!byId.containsKey(id) && !current.missingIds().contains(id)) {
+                missingIds.add(id);
+            }
+        }
+
+        Map<Long, T> missing = Map.of();
+        if (!missingIds.isEmpty()) {
+            missing = fallback.apply(missingIds)
+                    .stream()
+                    .collect(Collectors.toMap(idExtractor, Function.identity()));
+
+            if (!missing.isEmpty()) {
+                invalidateNow();
+            }
+
+            // Ids inexistentes não voltam ao banco enquanto o snapshot for válido
+            missingIds.removeAll(missing.keySet());
+            current.missingIds().addAll(missingIds);
+        }
+
+        List<T> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T item = byId.containsKey(id) ? byId.get(id) : missing.get(id);
+            if (item != null) {
+                found.add(item);
+            }
+        }
+
+        return found;
+    }
+
+    public void invalidate() {
+        invalidateNow();
+
+        // Uma leitura concorrente pode recarregar o estado antigo antes do commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow();
+                }
+            });
+        }
+    }
+
+    private void invalidateNow() {
+        generation.incrementAndGet();
+    }
+
+    private Snapshot<T> current() {
+        Snapshot<T> current = snapshot.get();
+        if (current != null && current.generation() == generation.get() && Instant.now().isBefore(current.expiresAt())) {
+            return current;
+        }
+
+        long loadedGeneration = generation.get();
+        List<T> items = List.copyOf(loader.get());
+        Snapshot<T> loaded = new Snapshot<>(
+                items,
+                items.stream().collect(Collectors.toUnmodifiableMap(idExtractor, Function.identity())),
+                ConcurrentHashMap.newKeySet(),
+                loadedGeneration,
+                revisionOf(items),
+                Instant.now().plus(TTL)
+        );
+
+        // Se uma escrita invalidar o catálogo durante a carga, a geração antiga faz o próximo acesso recarregar
+        snapshot.set(loaded);
+
+        return loaded;
+    }
+
+    private String revisionOf(List<T> items) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            for (T item : items) {
+                for (Object value : contentExtractor.apply(item)) {
+                    messageDigest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+                    messageDigest.update((byte) 0);
+                }
+                messageDigest.update((byte) 1);
+            }
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Snapshot<T>(List<T> items, Map<Long, T> byId, Set<Long> missingIds, long generation, String revision, Instant expiresAt) {
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.m42hub.m42hub_api.config;
+
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+@UtilityClass
+public class ETags {
+
+    private static final int HASH_BYTES = 16;
+
+    public static String of(String... versions) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            for (String version : versions) {
+                messageDigest.update(version.getBytes(StandardCharsets.UTF_8));
+                messageDigest.update((byte) 0);
+            }
+
+            byte[] hash = messageDigest.digest();
+            return "\"" + HexFormat.of().formatHex(hash, 0, HASH_BYTES) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
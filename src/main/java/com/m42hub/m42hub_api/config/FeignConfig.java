@@ -0,0 +1,16 @@
+package com.m42hub.m42hub_api.config;
+
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration.HttpClientBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FeignConfig {
+
+    // O HttpClient 5 repete sozinho respostas 429/503, inclusive em POST; quem decide as novas tentativas é o ImgBBResilience
+    @Bean
+    public HttpClientBuilderCustomizer disableAutomaticRetries() {
+        return builder -> builder.disableAutomaticRetries();
+    }
+
+}
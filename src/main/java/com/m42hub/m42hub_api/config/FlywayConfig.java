@@ -0,0 +1,22 @@
+package com.m42hub.m42hub_api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    // Com o Spring AOT a condição do spring.flyway.enabled é avaliada no build; aqui ela volta a valer na execução
+    // (o treino do CDS na imagem Docker sobe o contexto sem banco)
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(@Value("${spring.flyway.enabled:true}") boolean enabled) {
+        return flyway -> {
+            if (enabled) {
+                flyway.migrate();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.m42hub.m42hub_api.config;
+
+import com.m42hub.m42hub_api.exceptions.CustomNotFoundException;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@UtilityClass
+public class IdResolver {
+
+    public static <T> List<T> resolve(
+            Collection<Long> ids,
+            Function<Collection<Long>, List<T>> loader,
+            Function<T, Long> idExtractor,
+            String notFoundMessage
+    ) {
+        if (ids == null || ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Ids repetidos são resolvidos uma vez e aparecem uma vez no resultado
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        List<Long> loadableIds = requestedIds.stream()
+                .filter(Objects::nonNull)
+                .toList();
+
+        Map<Long, T> byId = loadableIds.isEmpty() ? Map.of() : loader.apply(loadableIds)
+                .stream()
+                .collect(Collectors.toMap(idExtractor, Function.identity(), (first, second) -> first));
+
+        List<Long> missingIds = requestedIds.stream()
+                .filter(id -> id == null || !byId.containsKey(id))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            throw new CustomNotFoundException(notFoundMessage + ": " + missingIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(", ")));
+        }
+
+        List<T> resolved = new ArrayList<>(requestedIds.size());
+        requestedIds.forEach(id -> resolved.add(byId.get(id)));
+        return resolved;
+    }
+
+}
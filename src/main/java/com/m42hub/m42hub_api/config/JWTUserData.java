@@ -4,6 +4,8 @@ package com.m42hub.m42hub_api.config;
 import com.m42hub.m42hub_api.user.dto.response.SystemRoleResponse;
 import lombok.Builder;
 
+import java.time.Instant;
+
 @Builder
-public record JWTUserData(Long id, String username, String role) {
+public record JWTUserData(Long id, String username, String role, Instant expiresAt) {
 }
\ No newline at end of file
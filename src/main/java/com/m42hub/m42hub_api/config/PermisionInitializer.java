@@ -1,53 +1,63 @@
 package com.m42hub.m42hub_api.config;
 
 import com.m42hub.m42hub_api.user.service.PermissionService;
-import jakarta.annotation.PostConstruct;
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
-import org.reflections.Reflections;
-import org.reflections.scanners.Scanners;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
+import java.util.Collection;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @Component
-@RequiredArgsConstructor
 public class PermisionInitializer {
 
-    @Autowired
-    private PermissionService permissionService;
+    private static final Pattern PERMISSION_PATTERN = Pattern.compile("hasAuthority\\('([^']+)'\\)");
 
-    @PostConstruct
-    @Transactional
+    private final PermissionService permissionService;
+    private final RequestMappingHandlerMapping handlerMapping;
+
+    public PermisionInitializer(
+            PermissionService permissionService,
+            @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping
+    ) {
+        this.permissionService = permissionService;
+        this.handlerMapping = handlerMapping;
+    }
+
+    // O Spring MVC já inspecionou todos os controllers ao montar o mapeamento; não há por que varrer o classpath de novo.
+    // Roda depois do refresh para o contexto subir sem banco (treino do CDS na imagem Docker).
+    @EventListener(ApplicationReadyEvent.class)
     public void extractAndSavePermissions() {
-        Reflections reflections = new Reflections(
-                "com.m42hub.m42hub_api",
-                Scanners.TypesAnnotated,
-                Scanners.MethodsAnnotated
-        );
-        Set<Class<?>> controllerClasses = reflections.getTypesAnnotatedWith(RestController.class);
-
-        Pattern permissionPattern = Pattern.compile("hasAuthority\\('([^']+)'\\)");
-
-        for (Class<?> controllerClass : controllerClasses) {
-            for (var method : controllerClass.getDeclaredMethods()) {
-                if (method.isAnnotationPresent(PreAuthorize.class)) {
-                    String expression = method.getAnnotation(PreAuthorize.class).value();
-
-                    Matcher matcher = permissionPattern.matcher(expression);
-                    while (matcher.find()) {
-                        String permission = matcher.group(1);
-                        permissionService.registerPermission(permission);
-                    }
-                }
+        permissionService.registerPermissions(extractPermissions(handlerMapping.getHandlerMethods().values()));
+    }
+
+    public static Set<String> extractPermissions(Collection<HandlerMethod> handlerMethods) {
+        Set<String> permissions = new TreeSet<>();
+
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            PreAuthorize preAuthorize = handlerMethod.getMethodAnnotation(PreAuthorize.class);
+            if (preAuthorize == null) {
+                preAuthorize = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), PreAuthorize.class);
+            }
+            if (preAuthorize == null) {
+                continue;
+            }
+
+            Matcher matcher = PERMISSION_PATTERN.matcher(preAuthorize.value());
+            while (matcher.find()) {
+                permissions.add(matcher.group(1));
             }
         }
-    }
 
+        return permissions;
+    }
 
 }
@@ -0,0 +1,67 @@
+package com.m42hub.m42hub_api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+// Transações readOnly vão para a réplica; o resto, e qualquer leitura de quem acabou de escrever, vai para o primário.
+// Precisa ficar atrás de um LazyConnectionDataSourceProxy: o flag readOnly só é publicado depois que a transação começa.
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {PRIMARY, REPLICA}
+
+    private final BooleanSupplier replicaAvailable;
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, BooleanSupplier replicaAvailable, Duration readYourWritesWindow) {
+        this.replicaAvailable = replicaAvailable;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .build();
+
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String username = currentUsername();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (username != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recentWriters.put(username, Boolean.TRUE);
+                    }
+                });
+            }
+            return Target.PRIMARY;
+        }
+
+        if (username != null && recentWriters.getIfPresent(username) != null) {
+            return Target.PRIMARY;
+        }
+
+        return replicaAvailable.getAsBoolean() ? Target.REPLICA : Target.PRIMARY;
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JWTUserData userData) {
+            return userData.username();
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.m42hub.m42hub_api.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Mede o atraso da réplica em segundo plano; acima de max-lag, ou sem resposta, as leituras voltam para o primário
+public class ReplicaLagMonitor {
+
+    // Réplica sem WAL pendente está em dia, mesmo que a última transação replicada seja antiga.
+    // Fora de recovery (primário usado como réplica em desenvolvimento) o atraso é zero.
+    private static final String LAG_QUERY = """
+            select case
+                when not pg_is_in_recovery() or pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+            end""";
+
+    private final JdbcTemplate replica;
+    private final double maxLagSeconds;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean available;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replica);
+        this.replica.setQueryTimeout((int) Math.max(1, checkInterval.toSeconds()));
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("replica-lag").factory());
+
+        Gauge.builder("db.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Atraso da réplica em segundos; NaN quando ela não responde")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    void check() {
+        try {
+            Double lag = replica.queryForObject(LAG_QUERY, Double.class);
+            lagSeconds = lag != null ? lag : 0;
+            available = lagSeconds <= maxLagSeconds;
+        } catch (DataAccessException exception) {
+            lagSeconds = Double.NaN;
+            available = false;
+        }
+    }
+
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+}
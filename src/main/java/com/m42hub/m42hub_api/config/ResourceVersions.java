@@ -0,0 +1,34 @@
+package com.m42hub.m42hub_api.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Contador persistido por recurso: todas as instâncias da API calculam o mesmo ETag,
+// e a escrita que muda o recurso incrementa a versão na mesma transação
+@Component
+@RequiredArgsConstructor
+public class ResourceVersions {
+
+    private static final String SELECT_VERSION = "SELECT version FROM resource_versions WHERE resource_key = ?";
+    private static final String INCREMENT_VERSION = """
+            INSERT INTO resource_versions (resource_key, version) VALUES (?, 1)
+            ON CONFLICT (resource_key) DO UPDATE SET version = resource_versions.version + 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Recurso que nunca foi escrito está na versão 0; a chave entra no valor porque recursos diferentes
+    // compartilham os mesmos números (o projeto 2 não pode responder 304 ao ETag do projeto 1)
+    public String current(String key) {
+        List<Long> versions = jdbcTemplate.queryForList(SELECT_VERSION, Long.class, key);
+        return key + "@" + (versions.isEmpty() ? 0 : versions.get(0));
+    }
+
+    public void increment(String key) {
+        jdbcTemplate.update(INCREMENT_VERSION, key);
+    }
+
+}
@@ -2,6 +2,9 @@ package com.m42hub.m42hub_api.config;
 
 import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -43,6 +46,7 @@ public class SecurityConfig {
                         .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
                         .requestMatchers("/api/v1/auth/login").permitAll()
                         .requestMatchers("/api/v1/auth/register").permitAll()
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class)).permitAll()
                         .requestMatchers(HttpMethod.GET,
                                 "/api/v1/project",
                                 "/api/v1/project/**",
@@ -52,8 +56,11 @@ public class SecurityConfig {
                                 "/api/v1/project/tool/**",
                                 "/api/v1/project/topic/**",
                                 "/api/v1/contribution/users/**",
-                                "/api/v1/donation/**"
+                                "/api/v1/donation/**",
+                                "/api/v1/search",
+                                "/api/v1/image/*"
                         ).permitAll()
+                        .requestMatchers(HttpMethod.HEAD, "/api/v1/image/*").permitAll()
 
                         .anyRequest().authenticated()
                 )
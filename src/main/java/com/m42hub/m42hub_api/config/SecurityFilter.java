@@ -16,6 +16,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -24,38 +25,51 @@ public class SecurityFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
     private final AuthService authService;
+    private final AuthenticationCache authenticationCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-        String token = null;
+        String token = resolveToken(request);
 
+        if (token != null) {
+            AuthenticationCache.CachedAuthentication cachedAuthentication = authenticationCache.get(token, () -> authenticate(token));
+
+            if (cachedAuthentication != null && cachedAuthentication.active()) {
+                UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(cachedAuthentication.userData(), null, cachedAuthentication.authorities());
+                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveToken(HttpServletRequest request) {
         if (request.getCookies() != null) {
             for (var cookie : request.getCookies()) {
                 if ("session".equals(cookie.getName())) {
-                    token = cookie.getValue();
-                    break;
+                    return cookie.getValue();
                 }
             }
         }
 
-        if (token != null) {
-            Optional<JWTUserData> optJWTUserData = tokenService.verifyToken(token);
-            if (optJWTUserData.isPresent()) {
-                JWTUserData userData = optJWTUserData.get();
+        return null;
+    }
 
-                UserDetails userDetails = authService.loadUserByUsername(userData.username());
+    private AuthenticationCache.CachedAuthentication authenticate(String token) {
+        Optional<JWTUserData> optJWTUserData = tokenService.verifyToken(token);
+        if (optJWTUserData.isEmpty()) {
+            return null;
+        }
 
-                if (!userData.username().equals(userDetails.getUsername())) {
-                    throw new UnauthorizedException("Token inválido");
-                }
+        JWTUserData userData = optJWTUserData.get();
+        UserDetails userDetails = authService.loadUserByUsername(userData.username());
 
-                UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userData, null, userDetails.getAuthorities());
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-            }
+        if (!userData.username().equals(userDetails.getUsername())) {
+            throw new UnauthorizedException("Token inválido");
         }
 
-        filterChain.doFilter(request, response);
+        return new AuthenticationCache.CachedAuthentication(userData, List.copyOf(userDetails.getAuthorities()), userDetails.isEnabled());
     }
 
 }
@@ -1,30 +1,65 @@
 package com.m42hub.m42hub_api.config;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.m42hub.m42hub_api.user.entity.User;
-import org.flywaydb.core.internal.license.FlywayJWTValidationException;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
 public class TokenService {
 
-    @Value("${m42hub.security.secret}")
-    private String secret;
+    private final String keyId;
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Map<String, JWTVerifier> verifiersByKeyId;
+    private final boolean cookieSecure;
 
-    @Value("${m42hub.security.cookie-secure}")
-    private boolean cookieSecure;
+    public TokenService(
+            @Value("${m42hub.security.secret}") String secret,
+            @Value("${m42hub.security.key-id}") String keyId,
+            @Value("${m42hub.security.retired-secrets}") List<String> retiredSecrets,
+            @Value("${m42hub.security.cookie-secure}") boolean cookieSecure
+    ) {
+        this.keyId = keyId;
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm).build();
+        this.cookieSecure = cookieSecure;
 
-    public String generateToken(User user) {
+        Map<String, JWTVerifier> verifiers = new HashMap<>();
+        for (String retiredSecret : retiredSecrets) {
+            if (retiredSecret.isBlank()) {
+                continue;
+            }
+
+            // Formato "kid:secret"; o secret pode conter ':'
+            int separator = retiredSecret.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException("Chave aposentada deve seguir o formato kid:secret");
+            }
+
+            String retiredKeyId = retiredSecret.substring(0, separator).trim();
+            verifiers.put(retiredKeyId, JWT.require(Algorithm.HMAC256(retiredSecret.substring(separator + 1))).build());
+        }
+        verifiers.put(keyId, verifier);
 
-        Algorithm algorithm = Algorithm.HMAC256(secret);
+        this.verifiersByKeyId = Map.copyOf(verifiers);
+    }
+
+    public String generateToken(User user) {
         return JWT.create()
+                .withKeyId(keyId)
                 .withSubject(user.getUsername())
                 .withClaim("id", user.getId())
                 .withClaim("role", user.getSystemRole().getName())
@@ -33,21 +68,27 @@ public class TokenService {
                 .sign(algorithm);
     }
 
+    @Timed(value = "auth.token.verify", histogram = true, description = "Validação de JWT (só ocorre quando o token não está no AuthenticationCache)")
     public Optional<JWTUserData> verifyToken(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
+            DecodedJWT decoded = JWT.decode(token);
+
+            // Tokens emitidos antes do kid são validados com a chave atual
+            JWTVerifier keyVerifier = decoded.getKeyId() == null ? verifier : verifiersByKeyId.get(decoded.getKeyId());
+            if (keyVerifier == null) {
+                return Optional.empty();
+            }
 
-            DecodedJWT jwt = JWT.require(algorithm)
-                    .build()
-                    .verify(token);
+            DecodedJWT jwt = keyVerifier.verify(decoded);
 
             return Optional.of(JWTUserData.builder()
                     .username(jwt.getSubject())
                     .id(jwt.getClaim("id").asLong())
                     .role(jwt.getClaim("role").asString())
+                    .expiresAt(jwt.getExpiresAtAsInstant())
                     .build());
 
-        } catch (FlywayJWTValidationException exception) {
+        } catch (JWTVerificationException exception) {
             return Optional.empty();
         }
     }
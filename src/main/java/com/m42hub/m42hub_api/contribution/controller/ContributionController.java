@@ -7,16 +7,22 @@ import com.m42hub.m42hub_api.contribution.dto.response.ContributionsByUserRespon
 import com.m42hub.m42hub_api.contribution.entity.Contribution;
 import com.m42hub.m42hub_api.contribution.mapper.ContributionMapper;
 import com.m42hub.m42hub_api.contribution.service.ContributionService;
+import com.m42hub.m42hub_api.contribution.dto.UserContributions;
 import com.m42hub.m42hub_api.shared.dto.PageResponse;
+import com.m42hub.m42hub_api.shared.export.ExportFormat;
+import com.m42hub.m42hub_api.shared.export.StreamingExporter;
+import com.m42hub.m42hub_api.shared.pagination.CursorPage;
 import com.m42hub.m42hub_api.shared.mapper.PageMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.*;
 
@@ -26,6 +32,7 @@ import java.util.*;
 public class ContributionController {
 
     private final ContributionService contributionService;
+    private final StreamingExporter streamingExporter;
 
     @GetMapping()
     @PreAuthorize("hasRole('ADMIN') or hasAuthority('contribution:create')")
@@ -36,6 +43,12 @@ public class ContributionController {
                 .toList());
     }
 
+    @GetMapping(produces = {ExportFormat.NDJSON_VALUE, ExportFormat.CSV_VALUE})
+    @PreAuthorize("hasRole('ADMIN') or hasAuthority('contribution:create')")
+    public ResponseEntity<StreamingResponseBody> export(@RequestHeader(HttpHeaders.ACCEPT) String accept) {
+        return streamingExporter.export(accept, "contributions", ContributionResponse.class, contributionService::exportAll, ContributionMapper::toContributionResponse);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasAuthority('contribution:get_by_id')")
     public ResponseEntity<ContributionResponse> getById(@PathVariable UUID id) {
@@ -57,8 +70,30 @@ public class ContributionController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date submittedAtStart,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date submittedAtEnd,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date approvedAtStart,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date approvedAtEnd
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date approvedAtEnd,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false", required = false) Boolean includeTotal
     ) {
+        // Paginação por cursor é opcional: "cursor=" vazio pede a primeira página
+        if (cursor != null) {
+            CursorPage<Contribution> contributionPage = contributionService.findByCursor(
+                    cursor,
+                    limit,
+                    sortBy,
+                    sortDirection,
+                    includeTotal,
+                    status,
+                    type,
+                    user,
+                    submittedAtStart,
+                    submittedAtEnd,
+                    approvedAtStart,
+                    approvedAtEnd
+            );
+
+            return ResponseEntity.ok(PageMapper.toCursorResponse(contributionPage, ContributionMapper::toContributionListItemResponse));
+        }
+
         Page<Contribution> contributionPage = contributionService.findByParams(
                 page,
                 limit,
@@ -81,6 +116,7 @@ public class ContributionController {
     @GetMapping("/users/search")
     public ResponseEntity<List<ContributionsByUserResponse>> findByParamsGroupedByUser(
             @RequestParam(defaultValue = "50", required = false) Integer limit,
+            @RequestParam(defaultValue = "10", required = false) Integer contributionsPerUser,
             @RequestParam(defaultValue = "DESC", required = false) String sortDirection,
             @RequestParam(required = false) List<Long> status,
             @RequestParam(required = false) List<Long> type,
@@ -90,10 +126,9 @@ public class ContributionController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date approvedAtStart,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date approvedAtEnd
     ) {
-        Page<Contribution> contributions = contributionService.findByParams(
-                0,
+        List<UserContributions> ranking = contributionService.findRankingByParams(
                 limit,
-                "approvedAt",
+                contributionsPerUser,
                 sortDirection,
                 status,
                 type,
@@ -104,15 +139,7 @@ public class ContributionController {
                 approvedAtEnd
         );
 
-        List<ContributionsByUserResponse> response = new ArrayList<>(ContributionMapper.toContributionsByUserResponse(contributions.getContent()));
-
-        Comparator<ContributionsByUserResponse> comparator = Comparator.comparingInt(item -> item.contributions().size());
-        if ("DESC".equalsIgnoreCase(sortDirection)) {
-            comparator = comparator.reversed();
-        }
-        response.sort(comparator);
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(ContributionMapper.toContributionsByUserResponse(ranking));
     }
 
     @PostMapping
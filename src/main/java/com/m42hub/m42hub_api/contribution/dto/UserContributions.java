@@ -0,0 +1,9 @@
+package com.m42hub.m42hub_api.contribution.dto;
+
+import com.m42hub.m42hub_api.contribution.entity.Contribution;
+import com.m42hub.m42hub_api.user.entity.User;
+
+import java.util.List;
+
+public record UserContributions(User user, Long totalContributions, List<Contribution> contributions) {
+}
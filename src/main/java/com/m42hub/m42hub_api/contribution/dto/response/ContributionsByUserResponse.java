@@ -12,6 +12,7 @@ import java.util.UUID;
 @Builder
 public record ContributionsByUserResponse(
         UserInfoResponse userInfo,
+        Long totalContributions,
         List<ContributionListItemResponse> contributions
 ) {
 }
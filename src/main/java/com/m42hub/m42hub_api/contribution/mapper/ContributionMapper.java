@@ -5,6 +5,7 @@ import com.m42hub.m42hub_api.contribution.dto.response.*;
 import com.m42hub.m42hub_api.contribution.entity.Contribution;
 import com.m42hub.m42hub_api.contribution.entity.Status;
 import com.m42hub.m42hub_api.contribution.entity.Type;
+import com.m42hub.m42hub_api.contribution.dto.UserContributions;
 import com.m42hub.m42hub_api.user.dto.response.UserInfoResponse;
 import com.m42hub.m42hub_api.user.entity.User;
 import com.m42hub.m42hub_api.user.mapper.UserMapper;
@@ -13,8 +14,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @UtilityClass
 public class ContributionMapper {
@@ -76,14 +75,12 @@ public class ContributionMapper {
                 .build();
     }
 
-    public static List<ContributionsByUserResponse> toContributionsByUserResponse(List<Contribution> contributions) {
-        Map<User, List<Contribution>> grouped = contributions.stream()
-                .collect(Collectors.groupingBy(Contribution::getUser));
-
-        return grouped.entrySet().stream()
-                .map(entry -> ContributionsByUserResponse.builder()
-                        .userInfo(UserMapper.toUserInfoResponse(entry.getKey()))
-                        .contributions(entry.getValue().stream()
+    public static List<ContributionsByUserResponse> toContributionsByUserResponse(List<UserContributions> ranking) {
+        return ranking.stream()
+                .map(userContributions -> ContributionsByUserResponse.builder()
+                        .userInfo(UserMapper.toUserInfoResponse(userContributions.user()))
+                        .totalContributions(userContributions.totalContributions())
+                        .contributions(userContributions.contributions().stream()
                                 .map(ContributionMapper::toContributionListItemResponse)
                                 .toList())
                         .build())
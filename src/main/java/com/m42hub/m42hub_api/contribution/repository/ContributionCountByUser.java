@@ -0,0 +1,4 @@
+package com.m42hub.m42hub_api.contribution.repository;
+
+public record ContributionCountByUser(Long userId, Long total) {
+}
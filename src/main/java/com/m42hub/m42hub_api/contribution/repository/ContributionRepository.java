@@ -1,12 +1,43 @@
 package com.m42hub.m42hub_api.contribution.repository;
 
 import com.m42hub.m42hub_api.contribution.entity.Contribution;
+import com.m42hub.m42hub_api.shared.export.ExportChunks;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface ContributionRepository extends JpaRepository<Contribution, UUID>, JpaSpecificationExecutor<Contribution> {
+public interface ContributionRepository extends JpaRepository<Contribution, UUID>, JpaSpecificationExecutor<Contribution>, ContributionRepositoryCustom {
+
+    @Query("""
+            select c from Contribution c
+            join fetch c.status
+            join fetch c.type
+            join fetch c.user u
+            join fetch u.systemRole
+            left join fetch u.interestRoles
+            where c.id in :ids
+            """)
+    List<Contribution> findAllWithUserByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportChunks.FETCH_SIZE))
+    @Query("""
+            select c from Contribution c
+            join fetch c.status
+            join fetch c.type
+            join fetch c.user u
+            join fetch u.systemRole
+            """)
+    Stream<Contribution> streamAllForExport();
+
 }
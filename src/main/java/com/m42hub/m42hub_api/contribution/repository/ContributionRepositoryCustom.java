@@ -0,0 +1,23 @@
+package com.m42hub.m42hub_api.contribution.repository;
+
+import com.m42hub.m42hub_api.contribution.entity.Contribution;
+import com.m42hub.m42hub_api.shared.pagination.CursorPage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ContributionRepositoryCustom {
+
+    List<ContributionCountByUser> countByUser(Specification<Contribution> spec, Sort.Direction direction, int limit);
+
+    List<UUID> findTopIdsByUser(Specification<Contribution> spec, Collection<Long> userIds, int limitPerUser);
+
+    List<UUID> findIds(Specification<Contribution> spec, Pageable pageable);
+
+    CursorPage<UUID> findIdsAfter(Specification<Contribution> spec, Sort.Order order, String cursor, int limit);
+
+}
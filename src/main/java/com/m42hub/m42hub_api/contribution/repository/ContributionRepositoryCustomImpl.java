@@ -0,0 +1,98 @@
+package com.m42hub.m42hub_api.contribution.repository;
+
+import com.m42hub.m42hub_api.contribution.entity.Contribution;
+import com.m42hub.m42hub_api.shared.pagination.CursorPage;
+import com.m42hub.m42hub_api.shared.pagination.KeysetPagination;
+import com.m42hub.m42hub_api.shared.pagination.OffsetPagination;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.criteria.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ContributionRepositoryCustomImpl implements ContributionRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<ContributionCountByUser> countByUser(Specification<Contribution> spec, Sort.Direction direction, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Contribution> root = query.from(Contribution.class);
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        Path<Long> userId = root.get("user").get("id");
+        Expression<Long> total = criteriaBuilder.count(root);
+
+        query.multiselect(userId, total);
+        query.groupBy(userId);
+        query.orderBy(
+                direction.isAscending() ? criteriaBuilder.asc(total) : criteriaBuilder.desc(total),
+                criteriaBuilder.asc(userId)
+        );
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(tuple -> new ContributionCountByUser(tuple.get(0, Long.class), tuple.get(1, Long.class)))
+                .toList();
+    }
+
+    @Override
+    public List<UUID> findTopIdsByUser(Specification<Contribution> spec, Collection<Long> userIds, int limitPerUser) {
+        HibernateCriteriaBuilder criteriaBuilder = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+
+        // A janela fica numa consulta própria, usada como CTE: assim a specification recebe a query dona do root
+        // (subquery(), distinct e groupBy chamados por ela agem sobre a consulta certa)
+        JpaCriteriaQuery<Tuple> ranked = criteriaBuilder.createTupleQuery();
+        JpaRoot<Contribution> root = ranked.from(Contribution.class);
+
+        Path<Long> userId = root.get("user").get("id");
+
+        JpaWindow window = criteriaBuilder.createWindow()
+                .partitionBy(userId)
+                .orderBy(
+                        criteriaBuilder.desc(root.get("approvedAt"), false),
+                        criteriaBuilder.desc(root.get("submittedAt")),
+                        criteriaBuilder.asc(root.get("id"))
+                );
+
+        Predicate predicate = spec.toPredicate(root, ranked, criteriaBuilder);
+        Predicate rankedUsers = userId.in(userIds);
+
+        ranked.multiselect(root.get("id").alias("id"), criteriaBuilder.rowNumber(window).alias("position"));
+        ranked.where(predicate != null ? criteriaBuilder.and(predicate, rankedUsers) : rankedUsers);
+
+        JpaCriteriaQuery<UUID> query = criteriaBuilder.createQuery(UUID.class);
+        JpaRoot<Tuple> rankedRoot = query.from(query.with(ranked));
+        query.select(rankedRoot.get("id"));
+        query.where(criteriaBuilder.le(rankedRoot.get("position"), limitPerUser));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<UUID> findIds(Specification<Contribution> spec, Pageable pageable) {
+        return OffsetPagination.findIds(entityManager, Contribution.class, spec, pageable);
+    }
+
+    @Override
+    public CursorPage<UUID> findIdsAfter(Specification<Contribution> spec, Sort.Order order, String cursor, int limit) {
+        return KeysetPagination.findIds(entityManager, Contribution.class, spec, order, cursor, limit);
+    }
+
+}
@@ -1,13 +1,20 @@
 package com.m42hub.m42hub_api.contribution.service;
 
+import com.m42hub.m42hub_api.contribution.dto.UserContributions;
 import com.m42hub.m42hub_api.contribution.entity.Contribution;
 import com.m42hub.m42hub_api.contribution.entity.Status;
 import com.m42hub.m42hub_api.contribution.entity.Type;
+import com.m42hub.m42hub_api.contribution.repository.ContributionCountByUser;
 import com.m42hub.m42hub_api.contribution.repository.ContributionRepository;
 import com.m42hub.m42hub_api.contribution.repository.StatusRepository;
 import com.m42hub.m42hub_api.contribution.specification.ContributionSpecification;
+import com.m42hub.m42hub_api.exceptions.BadRequestException;
+import com.m42hub.m42hub_api.shared.export.ExportChunks;
+import com.m42hub.m42hub_api.shared.pagination.CursorPage;
+import com.m42hub.m42hub_api.shared.pagination.PageTotalService;
 import com.m42hub.m42hub_api.user.entity.User;
 import com.m42hub.m42hub_api.user.service.UserService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -17,10 +24,11 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Date;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +38,10 @@ public class ContributionService {
     private final UserService userService;
     private final StatusService statusService;
     private final TypeService typeService;
+    private final PageTotalService pageTotalService;
+    private final EntityManager entityManager;
+
+    private static final String TABLE_NAME = "contributions";
 
     @Transactional(readOnly = true)
     public List<Contribution> findAll() {
@@ -47,7 +59,10 @@ public class ContributionService {
         contribution.setStatus(findStatus(contribution.getStatus()));
         contribution.setType(findType(contribution.getType()));
 
-        return repository.save(contribution);
+        Contribution saved = repository.save(contribution);
+        pageTotalService.invalidate(TABLE_NAME);
+
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -75,6 +90,118 @@ public class ContributionService {
 
         Pageable pageable = PageRequest.of(page, limit, sort);
 
+        Specification<Contribution> spec = buildSpecification(status, type, user, submittedAtStart, submittedAtEnd, approvedAtStart, approvedAtEnd);
+
+        return pageTotalService.toPage(
+                findAllWithUser(repository.findIds(spec, pageable)),
+                pageable,
+                TABLE_NAME,
+                Arrays.asList(status, type, user, submittedAtStart, submittedAtEnd, approvedAtStart, approvedAtEnd),
+                () -> repository.count(spec)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Contribution> findByCursor(
+            String cursor,
+            Integer limit,
+            String sortBy,
+            String sortDirection,
+            boolean includeTotal,
+            List<Long> status,
+            List<Long> type,
+            List<Long> user,
+            Date submittedAtStart,
+            Date submittedAtEnd,
+            Date approvedAtStart,
+            Date approvedAtEnd
+    ) {
+        if (sortBy == null || sortBy.isEmpty()) {
+            sortBy = "approvedAt";
+        }
+
+        Sort.Order order = "DESC".equalsIgnoreCase(sortDirection) ? Sort.Order.desc(sortBy) : Sort.Order.asc(sortBy);
+
+        Specification<Contribution> spec = buildSpecification(status, type, user, submittedAtStart, submittedAtEnd, approvedAtStart, approvedAtEnd);
+
+        CursorPage<UUID> ids = repository.findIdsAfter(spec, order, cursor, limit);
+        CursorPage<Contribution> contributions = ids.withContent(findAllWithUser(ids.content()));
+
+        if (!includeTotal) {
+            return contributions;
+        }
+
+        return contributions.withTotal(pageTotalService.total(
+                TABLE_NAME,
+                Arrays.asList(status, type, user, submittedAtStart, submittedAtEnd, approvedAtStart, approvedAtEnd),
+                () -> repository.count(spec)
+        ));
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserContributions> findRankingByParams(
+            Integer limit,
+            Integer contributionsPerUser,
+            String sortDirection,
+            List<Long> status,
+            List<Long> type,
+            List<Long> user,
+            Date submittedAtStart,
+            Date submittedAtEnd,
+            Date approvedAtStart,
+            Date approvedAtEnd
+    ) {
+        // Sem isso, contributionsPerUser <= 0 não traria contribuições e todo usuário do ranking seria descartado
+        if (limit == null || limit <= 0) {
+            throw new BadRequestException("limit deve ser maior que zero");
+        }
+        if (contributionsPerUser == null || contributionsPerUser <= 0) {
+            throw new BadRequestException("contributionsPerUser deve ser maior que zero");
+        }
+
+        Sort.Direction direction = "ASC".equalsIgnoreCase(sortDirection) ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        Specification<Contribution> spec = buildSpecification(status, type, user, submittedAtStart, submittedAtEnd, approvedAtStart, approvedAtEnd);
+
+        List<ContributionCountByUser> ranking = repository.countByUser(spec, direction, limit);
+        if (ranking.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> userIds = ranking.stream()
+                .map(ContributionCountByUser::userId)
+                .toList();
+
+        List<UUID> contributionIds = repository.findTopIdsByUser(spec, userIds, contributionsPerUser);
+
+        Map<UUID, Contribution> contributionsById = repository.findAllWithUserByIdIn(contributionIds)
+                .stream()
+                .collect(Collectors.toMap(Contribution::getId, Function.identity()));
+
+        // A ordem dos ids segue a janela (approvedAt desc) e precisa ser mantida dentro de cada usuário
+        Map<Long, List<Contribution>> contributionsByUser = contributionIds.stream()
+                .map(contributionsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(contribution -> contribution.getUser().getId()));
+
+        return ranking.stream()
+                .filter(count -> contributionsByUser.containsKey(count.userId()))
+                .map(count -> {
+                    List<Contribution> contributions = contributionsByUser.get(count.userId());
+                    return new UserContributions(contributions.get(0).getUser(), count.total(), contributions);
+                })
+                .toList();
+    }
+
+    private Specification<Contribution> buildSpecification(
+            List<Long> status,
+            List<Long> type,
+            List<Long> user,
+            Date submittedAtStart,
+            Date submittedAtEnd,
+            Date approvedAtStart,
+            Date approvedAtEnd
+    ) {
         Specification<Contribution> spec = Specification.allOf();
 
         if (status != null) {
@@ -93,7 +220,33 @@ public class ContributionService {
 
         spec = spec.and(ContributionSpecification.approvedAtBetween(approvedAtStart, approvedAtEnd));
 
-        return repository.findAll(spec, pageable);
+        return spec;
+    }
+
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<Contribution> consumer) {
+        try (Stream<Contribution> contributions = repository.streamAllForExport()) {
+            ExportChunks.forEach(contributions, entityManager, chunk -> {
+                // Os cargos de interesse são coleção e ficam fora do fetch do cursor
+                userService.findAllWithInterestRoles(chunk.stream().map(contribution -> contribution.getUser().getId()).distinct().toList());
+                chunk.forEach(consumer);
+            });
+        }
+    }
+
+    private List<Contribution> findAllWithUser(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Contribution> contributionsById = repository.findAllWithUserByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Contribution::getId, Function.identity()));
+
+        return ids.stream()
+                .map(contributionsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     private User findUser(User user) {
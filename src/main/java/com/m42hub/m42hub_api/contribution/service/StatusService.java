@@ -1,11 +1,14 @@
 package com.m42hub.m42hub_api.contribution.service;
 
+import com.m42hub.m42hub_api.config.CatalogCache;
 import com.m42hub.m42hub_api.contribution.entity.Status;
 import com.m42hub.m42hub_api.contribution.repository.StatusRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,19 +17,32 @@ import java.util.Optional;
 public class StatusService {
 
     private final StatusRepository repository;
+    private final CatalogCache<Status> cache = new CatalogCache<>(this::loadCatalog, Status::getId,
+            status -> Arrays.asList(status.getId(), status.getName(), status.getLabel(), status.getDescription()));
 
     @Transactional(readOnly = true)
     public List<Status> findAll() {
-        return repository.findAllByOrderByNameAsc();
+        return cache.findAll();
     }
 
     @Transactional(readOnly = true)
     public Optional<Status> findById(Long id) {
-        return repository.findById(id);
+        return cache.findById(id, repository::findById);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Status> findAllById(Collection<Long> ids) {
+        return cache.findAllById(ids, repository::findAllById);
     }
 
     @Transactional
     public Status save(Status status) {
-        return repository.save(status);
+        Status saved = repository.save(status);
+        cache.invalidate();
+        return saved;
+    }
+
+    private List<Status> loadCatalog() {
+        return repository.findAllByOrderByNameAsc();
     }
 }
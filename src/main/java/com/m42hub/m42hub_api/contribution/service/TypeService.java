@@ -1,5 +1,6 @@
 package com.m42hub.m42hub_api.contribution.service;
 
+import com.m42hub.m42hub_api.config.CatalogCache;
 import com.m42hub.m42hub_api.contribution.entity.Status;
 import com.m42hub.m42hub_api.contribution.entity.Type;
 import com.m42hub.m42hub_api.contribution.repository.StatusRepository;
@@ -8,6 +9,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,19 +19,32 @@ import java.util.Optional;
 public class TypeService {
 
     private final TypeRepository repository;
+    private final CatalogCache<Type> cache = new CatalogCache<>(this::loadCatalog, Type::getId,
+            type -> Arrays.asList(type.getId(), type.getName(), type.getLabel(), type.getHexColor(), type.getDescription()));
 
     @Transactional(readOnly = true)
     public List<Type> findAll() {
-        return repository.findAllByOrderByNameAsc();
+        return cache.findAll();
     }
 
     @Transactional(readOnly = true)
     public Optional<Type> findById(Long id) {
-        return repository.findById(id);
+        return cache.findById(id, repository::findById);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Type> findAllById(Collection<Long> ids) {
+        return cache.findAllById(ids, repository::findAllById);
     }
 
     @Transactional
     public Type save(Type type) {
-        return repository.save(type);
+        Type saved = repository.save(type);
+        cache.invalidate();
+        return saved;
+    }
+
+    private List<Type> loadCatalog() {
+        return repository.findAllByOrderByNameAsc();
     }
 }
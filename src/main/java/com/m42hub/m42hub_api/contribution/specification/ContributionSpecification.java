@@ -1,40 +1,23 @@
 package com.m42hub.m42hub_api.contribution.specification;
 
 import com.m42hub.m42hub_api.contribution.entity.Contribution;
-import com.m42hub.m42hub_api.contribution.entity.Status;
-import com.m42hub.m42hub_api.contribution.entity.Type;
-import com.m42hub.m42hub_api.user.entity.User;
-import jakarta.persistence.criteria.Join;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Date;
 import java.util.List;
-import java.util.Optional;
 
 public class ContributionSpecification {
 
     public static Specification<Contribution> status (List<Long> statusIds) {
-        return (root, query, criteriaBuilder) -> {
-            Optional.ofNullable(query).ifPresent(q -> q.distinct(true));
-            Join<Contribution, Status> join = root.join("status");
-            return join.get("id").in(statusIds);
-        };
+        return (root, query, criteriaBuilder) -> root.get("status").get("id").in(statusIds);
     }
 
     public static Specification<Contribution> type (List<Long> typeIds) {
-        return (root, query, criteriaBuilder) -> {
-            Optional.ofNullable(query).ifPresent(q -> q.distinct(true));
-            Join<Contribution, Type> join = root.join("type");
-            return join.get("id").in(typeIds);
-        };
+        return (root, query, criteriaBuilder) -> root.get("type").get("id").in(typeIds);
     }
 
     public static Specification<Contribution> user (List<Long> userIds) {
-        return (root, query, criteriaBuilder) -> {
-            Optional.ofNullable(query).ifPresent(q -> q.distinct(true));
-            Join<Contribution, User> join = root.join("user");
-            return join.get("id").in(userIds);
-        };
+        return (root, query, criteriaBuilder) -> root.get("user").get("id").in(userIds);
     }
 
     public static Specification<Contribution> submittedAtBetween(Date submittedAtStart, Date submittedAtEnd) {
@@ -2,23 +2,27 @@ package com.m42hub.m42hub_api.donation.controller;
 
 import com.m42hub.m42hub_api.donation.dto.request.DonationRequest;
 import com.m42hub.m42hub_api.donation.dto.response.DonationListItemResponse;
+import com.m42hub.m42hub_api.donation.dto.response.DonationRankingItemResponse;
 import com.m42hub.m42hub_api.donation.dto.response.DonationResponse;
 import com.m42hub.m42hub_api.donation.entity.Donation;
+import com.m42hub.m42hub_api.donation.entity.DonationUserTotal;
 import com.m42hub.m42hub_api.donation.mapper.DonationMapper;
 import com.m42hub.m42hub_api.donation.service.DonationService;
 import com.m42hub.m42hub_api.shared.dto.PageResponse;
+import com.m42hub.m42hub_api.shared.export.ExportFormat;
+import com.m42hub.m42hub_api.shared.export.StreamingExporter;
+import com.m42hub.m42hub_api.shared.pagination.CursorPage;
 import com.m42hub.m42hub_api.shared.mapper.PageMapper;
-import com.m42hub.m42hub_api.user.dto.response.UserInfoResponse;
-import com.m42hub.m42hub_api.user.entity.User;
-import com.m42hub.m42hub_api.user.mapper.UserMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.util.Date;
@@ -31,6 +35,7 @@ import java.util.UUID;
 public class DonationController {
 
     private final DonationService donationService;
+    private final StreamingExporter streamingExporter;
 
     @GetMapping()
     @PreAuthorize("hasRole('ADMIN') or hasAuthority('donation:create')")
@@ -41,6 +46,12 @@ public class DonationController {
                 .toList());
     }
 
+    @GetMapping(produces = {ExportFormat.NDJSON_VALUE, ExportFormat.CSV_VALUE})
+    @PreAuthorize("hasRole('ADMIN') or hasAuthority('donation:create')")
+    public ResponseEntity<StreamingResponseBody> export(@RequestHeader(HttpHeaders.ACCEPT) String accept) {
+        return streamingExporter.export(accept, "donations", DonationResponse.class, donationService::exportAll, DonationMapper::toDonationResponse);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasAuthority('donation:get_by_id')")
     public ResponseEntity<DonationResponse> getById(@PathVariable UUID id) {
@@ -63,8 +74,31 @@ public class DonationController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date donatedAtStart,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date donatedAtEnd,
             @RequestParam(required = false) BigDecimal minTotalAmount,
-            @RequestParam(required = false) BigDecimal maxTotalAmount
+            @RequestParam(required = false) BigDecimal maxTotalAmount,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false", required = false) Boolean includeTotal
     ) {
+        // Paginação por cursor é opcional: "cursor=" vazio pede a primeira página
+        if (cursor != null) {
+            CursorPage<Donation> donationPage = donationService.findByCursor(
+                    cursor,
+                    limit,
+                    sortBy,
+                    sortDirection,
+                    includeTotal,
+                    status,
+                    type,
+                    platform,
+                    user,
+                    donatedAtStart,
+                    donatedAtEnd,
+                    minTotalAmount,
+                    maxTotalAmount
+            );
+
+            return ResponseEntity.ok(PageMapper.toCursorResponse(donationPage, DonationMapper::toDonationListItemResponse));
+        }
+
         Page<Donation> donationPage = donationService.findByParams(
                 page,
                 limit,
@@ -86,9 +120,10 @@ public class DonationController {
     }
 
     @GetMapping("/ranking")
-    public ResponseEntity<List<UserInfoResponse>> donationRanking(
+    public ResponseEntity<List<DonationRankingItemResponse>> donationRanking(
             @RequestParam(defaultValue = "50", required = false) Integer limit,
             @RequestParam(defaultValue = "DESC", required = false) String sortDirection,
+            @RequestParam(defaultValue = "BRL", required = false) String currency,
             @RequestParam(required = false) List<Long> status,
             @RequestParam(required = false) List<Long> type,
             @RequestParam(required = false) List<Long> platform,
@@ -98,9 +133,10 @@ public class DonationController {
             @RequestParam(required = false) BigDecimal minTotalAmount,
             @RequestParam(required = false) BigDecimal maxTotalAmount
     ) {
-        List<User> rankingList = donationService.donationRanking(
+        List<DonationUserTotal> rankingList = donationService.donationRanking(
                 limit,
                 sortDirection,
+                currency,
                 status,
                 type,
                 platform,
@@ -111,8 +147,8 @@ public class DonationController {
                 maxTotalAmount
         );
 
-        List<UserInfoResponse> response = rankingList.stream()
-                .map(UserMapper::toUserInfoResponse)
+        List<DonationRankingItemResponse> response = rankingList.stream()
+                .map(DonationMapper::toDonationRankingItemResponse)
                 .toList();
 
         return ResponseEntity.ok(response);
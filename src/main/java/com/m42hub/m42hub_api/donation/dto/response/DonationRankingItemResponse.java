@@ -0,0 +1,18 @@
+package com.m42hub.m42hub_api.donation.dto.response;
+
+import com.m42hub.m42hub_api.user.dto.response.UserInfoResponse;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+@Builder
+public record DonationRankingItemResponse(
+        UserInfoResponse userInfo,
+        String currency,
+        BigDecimal totalAmount,
+        Integer donationCount,
+        Date firstDonatedAt,
+        Date lastDonatedAt
+) {
+}
@@ -40,6 +40,7 @@ public class Donation {
     @Column(precision = 12, scale = 4, nullable = false)
     private BigDecimal amount;
 
+    @Builder.Default
     @Column(length = 3, nullable = false)
     private String currency = "BRL";
 
@@ -0,0 +1,47 @@
+package com.m42hub.m42hub_api.donation.entity;
+
+import com.m42hub.m42hub_api.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "donation_user_totals")
+public class DonationUserTotal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "donation_user_total_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", referencedColumnName = "user_id", nullable = false)
+    private User user;
+
+    @Column(length = 3, nullable = false)
+    private String currency;
+
+    @Column(precision = 16, scale = 4, nullable = false)
+    private BigDecimal totalAmount;
+
+    @Column(nullable = false)
+    private Integer donationCount;
+
+    @Column(nullable = false)
+    @Temporal(TemporalType.DATE)
+    private Date firstDonatedAt;
+
+    @Column(nullable = false)
+    @Temporal(TemporalType.DATE)
+    private Date lastDonatedAt;
+
+    private LocalDateTime updatedAt;
+}
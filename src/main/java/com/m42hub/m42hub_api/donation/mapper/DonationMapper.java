@@ -3,6 +3,7 @@ package com.m42hub.m42hub_api.donation.mapper;
 import com.m42hub.m42hub_api.donation.dto.request.DonationRequest;
 import com.m42hub.m42hub_api.donation.dto.response.*;
 import com.m42hub.m42hub_api.donation.entity.Donation;
+import com.m42hub.m42hub_api.donation.entity.DonationUserTotal;
 import com.m42hub.m42hub_api.donation.entity.Platform;
 import com.m42hub.m42hub_api.donation.entity.Status;
 import com.m42hub.m42hub_api.donation.entity.Type;
@@ -81,4 +82,20 @@ public class DonationMapper {
                 .userInfo(userInfoResponse)
                 .build();
     }
+
+    public static DonationRankingItemResponse toDonationRankingItemResponse(DonationUserTotal total) {
+
+        UserInfoResponse userInfo = total.getUser() != null ? UserMapper.toUserInfoResponse(total.getUser()) : null;
+
+        return DonationRankingItemResponse
+                .builder()
+                .userInfo(userInfo)
+                .currency(total.getCurrency())
+                .totalAmount(total.getTotalAmount())
+                .donationCount(total.getDonationCount())
+                .firstDonatedAt(total.getFirstDonatedAt())
+                .lastDonatedAt(total.getLastDonatedAt())
+                .build();
+    }
+
 }
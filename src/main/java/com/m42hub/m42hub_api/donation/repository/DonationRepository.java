@@ -1,12 +1,45 @@
 package com.m42hub.m42hub_api.donation.repository;
 
 import com.m42hub.m42hub_api.donation.entity.Donation;
+import com.m42hub.m42hub_api.shared.export.ExportChunks;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface DonationRepository extends JpaRepository<Donation, UUID>, JpaSpecificationExecutor<Donation> {
+public interface DonationRepository extends JpaRepository<Donation, UUID>, JpaSpecificationExecutor<Donation>, DonationRepositoryCustom {
+
+    @Query("""
+            select d from Donation d
+            join fetch d.status
+            join fetch d.type
+            join fetch d.platform
+            join fetch d.user u
+            join fetch u.systemRole
+            left join fetch u.interestRoles
+            where d.id in :ids
+            """)
+    List<Donation> findAllWithUserByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportChunks.FETCH_SIZE))
+    @Query("""
+            select d from Donation d
+            join fetch d.status
+            join fetch d.type
+            join fetch d.platform
+            join fetch d.user u
+            join fetch u.systemRole
+            """)
+    Stream<Donation> streamAllForExport();
+
 }
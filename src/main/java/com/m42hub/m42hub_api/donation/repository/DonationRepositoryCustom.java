@@ -0,0 +1,18 @@
+package com.m42hub.m42hub_api.donation.repository;
+
+import com.m42hub.m42hub_api.donation.entity.Donation;
+import com.m42hub.m42hub_api.shared.pagination.CursorPage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface DonationRepositoryCustom {
+
+    List<UUID> findIds(Specification<Donation> spec, Pageable pageable);
+
+    CursorPage<UUID> findIdsAfter(Specification<Donation> spec, Sort.Order order, String cursor, int limit);
+
+}
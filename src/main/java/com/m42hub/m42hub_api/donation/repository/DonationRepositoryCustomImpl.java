@@ -0,0 +1,31 @@
+package com.m42hub.m42hub_api.donation.repository;
+
+import com.m42hub.m42hub_api.donation.entity.Donation;
+import com.m42hub.m42hub_api.shared.pagination.CursorPage;
+import com.m42hub.m42hub_api.shared.pagination.KeysetPagination;
+import com.m42hub.m42hub_api.shared.pagination.OffsetPagination;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class DonationRepositoryCustomImpl implements DonationRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<UUID> findIds(Specification<Donation> spec, Pageable pageable) {
+        return OffsetPagination.findIds(entityManager, Donation.class, spec, pageable);
+    }
+
+    @Override
+    public CursorPage<UUID> findIdsAfter(Specification<Donation> spec, Sort.Order order, String cursor, int limit) {
+        return KeysetPagination.findIds(entityManager, Donation.class, spec, order, cursor, limit);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.m42hub.m42hub_api.donation.repository;
+
+import com.m42hub.m42hub_api.donation.entity.DonationUserTotal;
+import jakarta.persistence.TemporalType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.Temporal;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+@Repository
+public interface DonationUserTotalRepository extends JpaRepository<DonationUserTotal, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO donation_user_totals (user_id, currency, total_amount, donation_count, first_donated_at, last_donated_at, updated_at)
+            VALUES (:userId, :currency, :amount, 1, :donatedAt, :donatedAt, NOW())
+            ON CONFLICT (user_id, currency) DO UPDATE SET
+                total_amount = donation_user_totals.total_amount + EXCLUDED.total_amount,
+                donation_count = donation_user_totals.donation_count + 1,
+                first_donated_at = LEAST(donation_user_totals.first_donated_at, EXCLUDED.first_donated_at),
+                last_donated_at = GREATEST(donation_user_totals.last_donated_at, EXCLUDED.last_donated_at),
+                updated_at = NOW()
+            """, nativeQuery = true)
+    void addDonation(
+            @Param("userId") Long userId,
+            @Param("currency") String currency,
+            @Param("amount") BigDecimal amount,
+            @Param("donatedAt") @Temporal(TemporalType.DATE) Date donatedAt
+    );
+
+}
@@ -1,15 +1,20 @@
 package com.m42hub.m42hub_api.donation.service;
 
 import com.m42hub.m42hub_api.donation.entity.Donation;
+import com.m42hub.m42hub_api.donation.entity.DonationUserTotal;
 import com.m42hub.m42hub_api.donation.entity.Platform;
 import com.m42hub.m42hub_api.donation.entity.Status;
 import com.m42hub.m42hub_api.donation.entity.Type;
 import com.m42hub.m42hub_api.donation.repository.DonationRepository;
+import com.m42hub.m42hub_api.donation.repository.DonationUserTotalRepository;
 import com.m42hub.m42hub_api.donation.specification.DonationSpecification;
+import com.m42hub.m42hub_api.shared.export.ExportChunks;
+import com.m42hub.m42hub_api.shared.pagination.CursorPage;
+import com.m42hub.m42hub_api.shared.pagination.PageTotalService;
 import com.m42hub.m42hub_api.user.entity.User;
 import com.m42hub.m42hub_api.user.service.UserService;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.TypedQuery;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
@@ -19,6 +24,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -29,7 +38,12 @@ public class DonationService {
     private final StatusService statusService;
     private final TypeService typeService;
     private final PlatformService platformService;
+    private final DonationUserTotalRepository donationUserTotalRepository;
     private final EntityManager entityManager;
+    private final PageTotalService pageTotalService;
+
+    private static final String DEFAULT_CURRENCY = "BRL";
+    private static final String TABLE_NAME = "donations";
 
 
     @Transactional(readOnly = true)
@@ -68,6 +82,124 @@ public class DonationService {
 
         Pageable pageable = PageRequest.of(page, limit, sort);
 
+        Specification<Donation> spec = buildSpecification(status, type, platform, user, donatedAtStart, donatedAtEnd, minTotalAmount, maxTotalAmount);
+
+        return pageTotalService.toPage(
+                findAllWithUser(repository.findIds(spec, pageable)),
+                pageable,
+                TABLE_NAME,
+                Arrays.asList(status, type, platform, user, donatedAtStart, donatedAtEnd, minTotalAmount, maxTotalAmount),
+                () -> repository.count(spec)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Donation> findByCursor(
+            String cursor,
+            Integer limit,
+            String sortBy,
+            String sortDirection,
+            boolean includeTotal,
+            List<Long> status,
+            List<Long> type,
+            List<Long> platform,
+            List<Long> user,
+            Date donatedAtStart,
+            Date donatedAtEnd,
+            BigDecimal minTotalAmount,
+            BigDecimal maxTotalAmount
+    ) {
+        if (sortBy == null || sortBy.isEmpty()) {
+            sortBy = "amount";
+        }
+
+        Sort.Order order = "ASC".equalsIgnoreCase(sortDirection) ? Sort.Order.asc(sortBy) : Sort.Order.desc(sortBy);
+
+        Specification<Donation> spec = buildSpecification(status, type, platform, user, donatedAtStart, donatedAtEnd, minTotalAmount, maxTotalAmount);
+
+        CursorPage<UUID> ids = repository.findIdsAfter(spec, order, cursor, limit);
+        CursorPage<Donation> donations = ids.withContent(findAllWithUser(ids.content()));
+
+        if (!includeTotal) {
+            return donations;
+        }
+
+        return donations.withTotal(pageTotalService.total(
+                TABLE_NAME,
+                Arrays.asList(status, type, platform, user, donatedAtStart, donatedAtEnd, minTotalAmount, maxTotalAmount),
+                () -> repository.count(spec)
+        ));
+    }
+
+    @Transactional(readOnly = true)
+    public List<DonationUserTotal> donationRanking(
+            Integer limit,
+            String sortDirection,
+            String currency,
+            List<Long> status,
+            List<Long> type,
+            List<Long> platform,
+            List<Long> userIds,
+            Date donatedAtStart,
+            Date donatedAtEnd,
+            BigDecimal minTotalAmount,
+            BigDecimal maxTotalAmount
+    ) {
+        boolean ascending = "ASC".equalsIgnoreCase(sortDirection);
+
+        // Filtros sobre as doações individuais não existem no agregado, então só nesse caso somamos a tabela donations
+        boolean filtersDonations = status != null || type != null || platform != null || donatedAtStart != null || donatedAtEnd != null;
+
+        List<DonationUserTotal> ranking = filtersDonations
+                ? rankingFromDonations(limit, ascending, currency, status, type, platform, userIds, donatedAtStart, donatedAtEnd, minTotalAmount, maxTotalAmount)
+                : rankingFromTotals(limit, ascending, currency, userIds, minTotalAmount, maxTotalAmount);
+
+        if (!ranking.isEmpty()) {
+            Map<Long, User> usersById = userService.findAllWithInterestRoles(ranking.stream().map(total -> total.getUser().getId()).toList())
+                    .stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+
+            ranking.forEach(total -> total.setUser(usersById.get(total.getUser().getId())));
+        }
+
+        return ranking;
+    }
+
+    @Transactional
+    public Donation save(Donation donation) {
+        donation.setUser(findUser(donation.getUser()));
+        donation.setStatus(findStatus(donation.getStatus()));
+        donation.setType(findType(donation.getType()));
+        donation.setPlatform(findPlatform(donation.getPlatform()));
+
+        if (donation.getCurrency() == null) {
+            donation.setCurrency(DEFAULT_CURRENCY);
+        }
+
+        Donation savedDonation = repository.save(donation);
+
+        donationUserTotalRepository.addDonation(
+                savedDonation.getUser().getId(),
+                savedDonation.getCurrency(),
+                savedDonation.getAmount(),
+                savedDonation.getDonatedAt()
+        );
+
+        pageTotalService.invalidate(TABLE_NAME);
+
+        return savedDonation;
+    }
+
+    private Specification<Donation> buildSpecification(
+            List<Long> status,
+            List<Long> type,
+            List<Long> platform,
+            List<Long> user,
+            Date donatedAtStart,
+            Date donatedAtEnd,
+            BigDecimal minTotalAmount,
+            BigDecimal maxTotalAmount
+    ) {
         Specification<Donation> spec = Specification.allOf();
 
         if (status != null) {
@@ -86,18 +218,57 @@ public class DonationService {
             spec = spec.and(DonationSpecification.user(user));
         }
 
-        spec = spec.and(DonationSpecification.donatedAtBetween(donatedAtStart, donatedAtEnd));
+        if (donatedAtStart != null || donatedAtEnd != null) {
+            spec = spec.and(DonationSpecification.donatedAtBetween(donatedAtStart, donatedAtEnd));
+        }
 
-        spec = spec.and(DonationSpecification.totalAmountBetween(minTotalAmount, maxTotalAmount));
+        if (minTotalAmount != null || maxTotalAmount != null) {
+            spec = spec.and(DonationSpecification.totalAmountBetween(minTotalAmount, maxTotalAmount));
+        }
 
-        return repository.findAll(spec, pageable);
+        return spec;
     }
 
-    //TODO: Refactor this to be more optimized, using this way just for test
-    @Transactional(readOnly = true)
-    public List<User> donationRanking(
+    private List<DonationUserTotal> rankingFromTotals(
             Integer limit,
-            String sortDirection,
+            boolean ascending,
+            String currency,
+            List<Long> userIds,
+            BigDecimal minTotalAmount,
+            BigDecimal maxTotalAmount
+    ) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<DonationUserTotal> criteriaQuery = criteriaBuilder.createQuery(DonationUserTotal.class);
+        Root<DonationUserTotal> total = criteriaQuery.from(DonationUserTotal.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(criteriaBuilder.equal(total.get("currency"), currency));
+        if (userIds != null && !userIds.isEmpty()) {
+            predicates.add(total.get("user").get("id").in(userIds));
+        }
+        if (minTotalAmount != null) {
+            predicates.add(criteriaBuilder.ge(total.get("totalAmount"), minTotalAmount));
+        }
+        if (maxTotalAmount != null) {
+            predicates.add(criteriaBuilder.le(total.get("totalAmount"), maxTotalAmount));
+        }
+        criteriaQuery.where(predicates.toArray(new Predicate[0]));
+
+        criteriaQuery.orderBy(
+                ascending ? criteriaBuilder.asc(total.get("totalAmount")) : criteriaBuilder.desc(total.get("totalAmount")),
+                criteriaBuilder.asc(total.get("user").get("id"))
+        );
+
+        return entityManager.createQuery(criteriaQuery)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private List<DonationUserTotal> rankingFromDonations(
+            Integer limit,
+            boolean ascending,
+            String currency,
             List<Long> status,
             List<Long> type,
             List<Long> platform,
@@ -107,22 +278,24 @@ public class DonationService {
             BigDecimal minTotalAmount,
             BigDecimal maxTotalAmount
     ) {
-
         CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
 
-        CriteriaQuery<User> criteriaQuery = criteriaBuilder.createQuery(User.class);
+        CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
         Root<Donation> donation = criteriaQuery.from(Donation.class);
-        Join<Donation, User> user = donation.join("user");
 
-        criteriaQuery.select(user);
-        criteriaQuery.groupBy(user.get("id"));
-        criteriaQuery.orderBy(
-                "ASC".equalsIgnoreCase(sortDirection)
-                        ? criteriaBuilder.asc(criteriaBuilder.sum(donation.get("amount")))
-                        : criteriaBuilder.desc(criteriaBuilder.sum(donation.get("amount")))
+        Path<Long> userId = donation.get("user").get("id");
+        Expression<BigDecimal> totalAmount = criteriaBuilder.sum(donation.get("amount"));
+
+        criteriaQuery.multiselect(
+                userId,
+                totalAmount,
+                criteriaBuilder.count(donation),
+                criteriaBuilder.least(donation.<Date>get("donatedAt")),
+                criteriaBuilder.greatest(donation.<Date>get("donatedAt"))
         );
 
         List<Predicate> predicates = new ArrayList<>();
+        predicates.add(criteriaBuilder.equal(donation.get("currency"), currency));
         if (status != null && !status.isEmpty()) {
             predicates.add(donation.get("status").get("id").in(status));
         }
@@ -133,7 +306,7 @@ public class DonationService {
             predicates.add(donation.get("platform").get("id").in(platform));
         }
         if (userIds != null && !userIds.isEmpty()) {
-            predicates.add(user.get("id").in(userIds));
+            predicates.add(userId.in(userIds));
         }
         if (donatedAtStart != null) {
             predicates.add(criteriaBuilder.greaterThanOrEqualTo(donation.get("donatedAt"), donatedAtStart));
@@ -143,32 +316,63 @@ public class DonationService {
         }
         criteriaQuery.where(predicates.toArray(new Predicate[0]));
 
-        criteriaQuery.groupBy(user);
+        criteriaQuery.groupBy(userId);
 
         List<Predicate> havingPredicates = new ArrayList<>();
         if (minTotalAmount != null) {
-            havingPredicates.add(criteriaBuilder.ge(criteriaBuilder.sum(donation.get("amount")), minTotalAmount));
+            havingPredicates.add(criteriaBuilder.ge(totalAmount, minTotalAmount));
         }
         if (maxTotalAmount != null) {
-            havingPredicates.add(criteriaBuilder.le(criteriaBuilder.sum(donation.get("amount")), maxTotalAmount));
+            havingPredicates.add(criteriaBuilder.le(totalAmount, maxTotalAmount));
         }
         if (!havingPredicates.isEmpty()) {
             criteriaQuery.having(havingPredicates.toArray(new Predicate[0]));
         }
 
-        TypedQuery<User> query = entityManager.createQuery(criteriaQuery);
-        query.setMaxResults(limit);
-        return query.getResultList();
+        criteriaQuery.orderBy(
+                ascending ? criteriaBuilder.asc(totalAmount) : criteriaBuilder.desc(totalAmount),
+                criteriaBuilder.asc(userId)
+        );
+
+        return entityManager.createQuery(criteriaQuery)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(tuple -> DonationUserTotal.builder()
+                        .user(User.builder().id(tuple.get(0, Long.class)).build())
+                        .currency(currency)
+                        .totalAmount(tuple.get(1, BigDecimal.class))
+                        .donationCount(tuple.get(2, Long.class).intValue())
+                        .firstDonatedAt(tuple.get(3, Date.class))
+                        .lastDonatedAt(tuple.get(4, Date.class))
+                        .build())
+                .toList();
     }
 
-    @Transactional
-    public Donation save(Donation donation) {
-        donation.setUser(findUser(donation.getUser()));
-        donation.setStatus(findStatus(donation.getStatus()));
-        donation.setType(findType(donation.getType()));
-        donation.setPlatform(findPlatform(donation.getPlatform()));
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<Donation> consumer) {
+        try (Stream<Donation> donations = repository.streamAllForExport()) {
+            ExportChunks.forEach(donations, entityManager, chunk -> {
+                // Os cargos de interesse são coleção e ficam fora do fetch do cursor
+                userService.findAllWithInterestRoles(chunk.stream().map(donation -> donation.getUser().getId()).distinct().toList());
+                chunk.forEach(consumer);
+            });
+        }
+    }
+
+    private List<Donation> findAllWithUser(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Donation> donationsById = repository.findAllWithUserByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Donation::getId, Function.identity()));
 
-        return repository.save(donation);
+        return ids.stream()
+                .map(donationsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     private User findUser(User user) {
@@ -1,11 +1,14 @@
 package com.m42hub.m42hub_api.donation.service;
 
+import com.m42hub.m42hub_api.config.CatalogCache;
 import com.m42hub.m42hub_api.donation.entity.Platform;
 import com.m42hub.m42hub_api.donation.repository.PlatformRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,19 +17,32 @@ import java.util.Optional;
 public class PlatformService {
 
     private final PlatformRepository repository;
+    private final CatalogCache<Platform> cache = new CatalogCache<>(this::loadCatalog, Platform::getId,
+            platform -> Arrays.asList(platform.getId(), platform.getName(), platform.getLabel(), platform.getHexColor(), platform.getDescription()));
 
     @Transactional(readOnly = true)
     public List<Platform> findAll() {
-        return repository.findAllByOrderByNameAsc();
+        return cache.findAll();
     }
 
     @Transactional(readOnly = true)
     public Optional<Platform> findById(Long id) {
-        return repository.findById(id);
+        return cache.findById(id, repository::findById);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Platform> findAllById(Collection<Long> ids) {
+        return cache.findAllById(ids, repository::findAllById);
     }
 
     @Transactional
     public Platform save(Platform platform) {
-        return repository.save(platform);
+        Platform saved = repository.save(platform);
+        cache.invalidate();
+        return saved;
+    }
+
+    private List<Platform> loadCatalog() {
+        return repository.findAllByOrderByNameAsc();
     }
 }
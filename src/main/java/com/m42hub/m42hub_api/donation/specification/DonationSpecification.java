@@ -1,83 +1,70 @@
 package com.m42hub.m42hub_api.donation.specification;
 
 import com.m42hub.m42hub_api.donation.entity.Donation;
-import com.m42hub.m42hub_api.donation.entity.Status;
-import com.m42hub.m42hub_api.donation.entity.Type;
-import com.m42hub.m42hub_api.user.entity.User;
+import com.m42hub.m42hub_api.donation.entity.DonationUserTotal;
 import jakarta.persistence.criteria.*;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.Optional;
 
 public class DonationSpecification {
 
     public static Specification<Donation> status (List<Long> statusIds) {
-        return (root, query, criteriaBuilder) -> {
-            Optional.ofNullable(query).ifPresent(q -> q.distinct(true));
-            Join<Donation, Status> join = root.join("status");
-            return join.get("id").in(statusIds);
-        };
+        return (root, query, criteriaBuilder) -> root.get("status").get("id").in(statusIds);
     }
 
     public static Specification<Donation> type (List<Long> typeIds) {
-        return (root, query, criteriaBuilder) -> {
-            Optional.ofNullable(query).ifPresent(q -> q.distinct(true));
-            Join<Donation, Type> join = root.join("type");
-            return join.get("id").in(typeIds);
-        };
+        return (root, query, criteriaBuilder) -> root.get("type").get("id").in(typeIds);
     }
 
     public static Specification<Donation> platform (List<Long> platformIds) {
-        return (root, query, criteriaBuilder) -> {
-            Optional.ofNullable(query).ifPresent(q -> q.distinct(true));
-            Join<Donation, Type> join = root.join("platform");
-            return join.get("id").in(platformIds);
-        };
+        return (root, query, criteriaBuilder) -> root.get("platform").get("id").in(platformIds);
     }
 
     public static Specification<Donation> user (List<Long> userIds) {
-        return (root, query, criteriaBuilder) -> {
-            Optional.ofNullable(query).ifPresent(q -> q.distinct(true));
-            Join<Donation, User> join = root.join("user");
-            return join.get("id").in(userIds);
-        };
+        return (root, query, criteriaBuilder) -> root.get("user").get("id").in(userIds);
     }
 
-    public static Specification<Donation> donatedAtBetween(Date submittedAtStart, Date submittedAtEnd) {
+    public static Specification<Donation> donatedAtBetween(Date donatedAtStart, Date donatedAtEnd) {
         return (root, query, cb) -> {
-            if (submittedAtStart != null && submittedAtEnd != null) {
-                return cb.between(root.get("submittedAt"), submittedAtStart, submittedAtEnd);
-            } else if (submittedAtStart != null) {
-                return cb.greaterThanOrEqualTo(root.get("submittedAt"), submittedAtStart);
-            } else if (submittedAtEnd != null) {
-                return cb.lessThanOrEqualTo(root.get("submittedAt"), submittedAtEnd);
+            if (donatedAtStart != null && donatedAtEnd != null) {
+                return cb.between(root.get("donatedAt"), donatedAtStart, donatedAtEnd);
+            } else if (donatedAtStart != null) {
+                return cb.greaterThanOrEqualTo(root.get("donatedAt"), donatedAtStart);
+            } else if (donatedAtEnd != null) {
+                return cb.lessThanOrEqualTo(root.get("donatedAt"), donatedAtEnd);
             }
-            return cb.conjunction();
+            return null;
         };
     }
 
     public static Specification<Donation> totalAmountBetween(BigDecimal min, BigDecimal max) {
         return (root, query, cb) -> {
-            assert query != null;
-            Subquery<BigDecimal> subquery = query.subquery(BigDecimal.class);
-            Root<Donation> subRoot = subquery.from(Donation.class);
-
-            subquery.select(cb.sum(subRoot.get("amount")));
-            subquery.where(cb.equal(subRoot.get("user"), root.get("user")));
+            if (min == null && max == null) {
+                return null;
+            }
 
-            Predicate predicate = cb.conjunction();
+            assert query != null;
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<DonationUserTotal> total = subquery.from(DonationUserTotal.class);
 
+            // O total é mantido por usuário e moeda em donation_user_totals, não é recalculado por linha
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(total.get("user").get("id"), root.get("user").get("id")));
+            predicates.add(cb.equal(total.get("currency"), root.get("currency")));
             if (min != null) {
-                predicate = cb.and(predicate, cb.greaterThanOrEqualTo(subquery.getSelection(), min));
+                predicates.add(cb.greaterThanOrEqualTo(total.get("totalAmount"), min));
             }
             if (max != null) {
-                predicate = cb.and(predicate, cb.lessThanOrEqualTo(subquery.getSelection(), max));
+                predicates.add(cb.lessThanOrEqualTo(total.get("totalAmount"), max));
             }
 
-            return predicate;
+            subquery.select(cb.literal(1L)).where(predicates.toArray(new Predicate[0]));
+
+            return cb.exists(subquery);
         };
     }
 
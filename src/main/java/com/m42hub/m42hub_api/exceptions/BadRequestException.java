@@ -0,0 +1,7 @@
+package com.m42hub.m42hub_api.exceptions;
+
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
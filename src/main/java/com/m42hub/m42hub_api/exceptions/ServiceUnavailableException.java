@@ -0,0 +1,7 @@
+package com.m42hub.m42hub_api.exceptions;
+
+public class ServiceUnavailableException extends RuntimeException {
+  public ServiceUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -7,7 +7,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.multipart.MultipartFile;
 
-@FeignClient(name = "imgbb", url = "${imgBB.upload-url}")
+@FeignClient(name = "imgbb")
 public interface ImgBBClient {
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -0,0 +1,138 @@
+package com.m42hub.m42hub_api.file.client;
+
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+@Component
+public class ImgBBResilience {
+
+    private static final String NAME = "imgbb";
+
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final MeterRegistry meterRegistry;
+
+    public ImgBBResilience(
+            @Value("${imgBB.max-concurrent-calls}") int maxConcurrentCalls,
+            @Value("${imgBB.max-wait}") Duration maxWait,
+            @Value("${imgBB.retry.max-attempts}") int maxAttempts,
+            @Value("${imgBB.retry.initial-backoff}") Duration initialBackoff,
+            @Value("${imgBB.circuit-breaker.failure-rate-threshold}") float failureRateThreshold,
+            @Value("${imgBB.circuit-breaker.slow-call-threshold}") Duration slowCallThreshold,
+            @Value("${imgBB.circuit-breaker.open-duration}") Duration openDuration,
+            MeterRegistry meterRegistry
+    ) {
+        this.meterRegistry = meterRegistry;
+
+        // Semáforo: os workers já rodam em virtual threads, então esperar por uma vaga é barato
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWait)
+                .build());
+        this.bulkhead = bulkheads.bulkhead(NAME);
+
+        // Erros 4xx são do arquivo enviado, não da saúde do ImgBB, e não abrem o circuito
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slowCallRateThreshold(80)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(2)
+                .recordException(ImgBBResilience::isServerFailure)
+                .build());
+        this.circuitBreaker = circuitBreakers.circuitBreaker(NAME);
+
+        RetryRegistry retries = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(initialBackoff, 2, 0.5))
+                .retryOnException(ImgBBResilience::isSafeToRetry)
+                .build());
+        this.retry = retries.retry(NAME);
+
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedRetryMetrics.ofRetryRegistry(retries).bindTo(meterRegistry);
+
+        Gauge.builder("imgbb.requests.active", bulkhead,
+                        b -> b.getBulkheadConfig().getMaxConcurrentCalls() - b.getMetrics().getAvailableConcurrentCalls())
+                .description("Chamadas ao ImgBB em andamento")
+                .register(meterRegistry);
+    }
+
+    // A espera entre tentativas acontece fora do bulkhead, sem segurar uma vaga
+    public <T> T call(Supplier<T> call) {
+        Supplier<T> timed = () -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "success";
+            try {
+                return call.get();
+            } catch (FeignException exception) {
+                outcome = exception.status() > 0 ? String.valueOf(exception.status()) : "io_error";
+                throw exception;
+            } catch (RuntimeException exception) {
+                outcome = "error";
+                throw exception;
+            } finally {
+                sample.stop(Timer.builder("imgbb.requests")
+                        .description("Latência de cada tentativa de envio ao ImgBB")
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
+        };
+
+        return Retry.decorateSupplier(retry,
+                CircuitBreaker.decorateSupplier(circuitBreaker,
+                        Bulkhead.decorateSupplier(bulkhead, timed))).get();
+    }
+
+    // O upload não é idempotente: só repete quando há certeza de que o ImgBB não processou o arquivo.
+    // Timeout de leitura fica de fora, porque a imagem pode ter sido publicada mesmo sem resposta.
+    private static boolean isSafeToRetry(Throwable throwable) {
+        if (throwable instanceof FeignException exception
+                && (exception.status() == 429 || exception.status() == 503)) {
+            return true;
+        }
+
+        if (throwable instanceof RetryableException) {
+            Throwable cause = throwable.getCause();
+            return cause instanceof ConnectException || cause instanceof ConnectTimeoutException;
+        }
+
+        return false;
+    }
+
+    private static boolean isServerFailure(Throwable throwable) {
+        if (throwable instanceof RetryableException) {
+            return true;
+        }
+        return throwable instanceof FeignException exception
+                && (exception.status() >= 500 || exception.status() == 429);
+    }
+
+}
@@ -1,25 +1,66 @@
 package com.m42hub.m42hub_api.file.controller;
 
-import com.m42hub.m42hub_api.file.service.ImgBBService;
+import com.m42hub.m42hub_api.config.JWTUserData;
+import com.m42hub.m42hub_api.file.dto.response.ImageUploadJobResponse;
+import com.m42hub.m42hub_api.file.entity.ImageUploadJob;
+import com.m42hub.m42hub_api.file.entity.ImageUploadTarget;
+import com.m42hub.m42hub_api.file.mapper.ImageUploadJobMapper;
+import com.m42hub.m42hub_api.file.service.ImageUploadService;
+import com.m42hub.m42hub_api.file.storage.ImageFileSender;
+import com.m42hub.m42hub_api.file.storage.ImageStorage;
+import com.m42hub.m42hub_api.file.storage.StoredImageFile;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/image")
 public class ImageController {
-    private final ImgBBService imgBBService;
+    private final ImageUploadService imageUploadService;
+    private final ImageStorage imageStorage;
+    private final ImageFileSender imageFileSender;
 
     @PreAuthorize("hasRole('ADMIN') or hasAuthority('image:upload')")
     @PostMapping("/upload")
-    public ResponseEntity<String> uploadFile(@RequestParam("file") MultipartFile file) {
-        String url = imgBBService.uploadImage(file);
-        return ResponseEntity.ok(url);
+    public ResponseEntity<ImageUploadJobResponse> uploadFile(@RequestParam("file") MultipartFile file) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        JWTUserData userData = (JWTUserData) authentication.getPrincipal();
+
+        ImageUploadJob job = imageUploadService.submit(file, ImageUploadTarget.IMAGE, null, userData.id());
+        return ImageUploadJobMapper.toAcceptedResponse(job);
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ImageUploadJobResponse> getJob(@PathVariable UUID id) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        JWTUserData userData = (JWTUserData) authentication.getPrincipal();
+
+        return imageUploadService.findById(id, userData.id())
+                .map(job -> ResponseEntity.ok(ImageUploadJobMapper.toImageUploadJobResponse(job)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{hash:[0-9a-f]{64}}")
+    public void getImage(@PathVariable String hash, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<StoredImageFile> file = imageStorage.find(hash);
+        if (file.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        imageFileSender.send(file.get(), request, response);
     }
 }
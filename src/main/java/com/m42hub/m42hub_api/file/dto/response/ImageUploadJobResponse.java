@@ -0,0 +1,21 @@
+package com.m42hub.m42hub_api.file.dto.response;
+
+import com.m42hub.m42hub_api.file.entity.ImageUploadStatus;
+import com.m42hub.m42hub_api.file.entity.ImageUploadTarget;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Builder
+public record ImageUploadJobResponse(
+        UUID id,
+        ImageUploadTarget target,
+        Long targetId,
+        ImageUploadStatus status,
+        String imageUrl,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
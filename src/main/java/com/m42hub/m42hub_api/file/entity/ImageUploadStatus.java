@@ -0,0 +1,8 @@
+package com.m42hub.m42hub_api.file.entity;
+
+public enum ImageUploadStatus {
+    PENDING,
+    PROCESSING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,16 @@
+package com.m42hub.m42hub_api.file.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// Onde a URL final é gravada quando o envio termina; IMAGE apenas devolve a URL no job
+@Getter
+@RequiredArgsConstructor
+public enum ImageUploadTarget {
+    IMAGE(ImageVariant.IMAGE),
+    PROFILE_PIC(ImageVariant.AVATAR),
+    PROFILE_BANNER(ImageVariant.BANNER),
+    PROJECT_BANNER(ImageVariant.BANNER);
+
+    private final ImageVariant variant;
+}
@@ -0,0 +1,8 @@
+package com.m42hub.m42hub_api.file.entity;
+
+// Cada variante tem dimensões máximas próprias, então o mesmo arquivo gera uma URL por variante
+public enum ImageVariant {
+    AVATAR,
+    BANNER,
+    IMAGE
+}
@@ -0,0 +1,39 @@
+package com.m42hub.m42hub_api.file.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "uploaded_images")
+public class UploadedImage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "uploaded_image_id")
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String sourceHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImageVariant variant;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String imageUrl;
+
+    private Long sourceSize;
+
+    private Long storedSize;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
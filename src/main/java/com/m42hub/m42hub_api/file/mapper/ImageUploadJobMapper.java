@@ -0,0 +1,34 @@
+package com.m42hub.m42hub_api.file.mapper;
+
+import com.m42hub.m42hub_api.file.dto.response.ImageUploadJobResponse;
+import com.m42hub.m42hub_api.file.entity.ImageUploadJob;
+import lombok.experimental.UtilityClass;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+
+@UtilityClass
+public class ImageUploadJobMapper {
+
+    public static ImageUploadJobResponse toImageUploadJobResponse(ImageUploadJob job) {
+        return ImageUploadJobResponse
+                .builder()
+                .id(job.getId())
+                .target(job.getTarget())
+                .targetId(job.getTargetId())
+                .status(job.getStatus())
+                .imageUrl(job.getImageUrl())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+
+    // O upload é assíncrono: 202 com o job e o Location para acompanhar o envio
+    public static ResponseEntity<ImageUploadJobResponse> toAcceptedResponse(ImageUploadJob job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/image/jobs/" + job.getId()))
+                .body(toImageUploadJobResponse(job));
+    }
+
+}
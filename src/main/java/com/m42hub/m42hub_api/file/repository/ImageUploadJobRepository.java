@@ -0,0 +1,35 @@
+package com.m42hub.m42hub_api.file.repository;
+
+import com.m42hub.m42hub_api.file.entity.ImageUploadJob;
+import com.m42hub.m42hub_api.file.entity.ImageUploadStatus;
+import com.m42hub.m42hub_api.file.entity.ImageUploadTarget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ImageUploadJobRepository extends JpaRepository<ImageUploadJob, UUID> {
+
+    List<ImageUploadJob> findAllByStatusIn(Collection<ImageUploadStatus> statuses);
+
+    Optional<ImageUploadJob> findFirstByTargetAndTargetIdOrderByCreatedAtDesc(ImageUploadTarget target, Long targetId);
+
+    // Escreve o status final direto pelo id, sem depender de a entidade ter sido carregada
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE image_upload_jobs
+            SET status = 'FAILED', error = :error, updated_at = NOW()
+            WHERE image_upload_job_id = :id
+            """, nativeQuery = true)
+    int markFailed(@Param("id") UUID id, @Param("error") String error);
+
+}
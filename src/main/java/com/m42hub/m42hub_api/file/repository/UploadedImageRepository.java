@@ -0,0 +1,35 @@
+package com.m42hub.m42hub_api.file.repository;
+
+import com.m42hub.m42hub_api.file.entity.ImageVariant;
+import com.m42hub.m42hub_api.file.entity.UploadedImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface UploadedImageRepository extends JpaRepository<UploadedImage, Long> {
+
+    Optional<UploadedImage> findBySourceHashAndVariant(String sourceHash, ImageVariant variant);
+
+    // Só o conflito em (source_hash, variant) é ignorado; qualquer outra violação continua estourando
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO uploaded_images (source_hash, variant, image_url, source_size, stored_size, created_at)
+            VALUES (:sourceHash, :variant, :imageUrl, :sourceSize, :storedSize, NOW())
+            ON CONFLICT (source_hash, variant) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("sourceHash") String sourceHash,
+            @Param("variant") String variant,
+            @Param("imageUrl") String imageUrl,
+            @Param("sourceSize") Long sourceSize,
+            @Param("storedSize") Long storedSize
+    );
+
+}
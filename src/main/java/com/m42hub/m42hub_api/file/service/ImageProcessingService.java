@@ -0,0 +1,45 @@
+package com.m42hub.m42hub_api.file.service;
+
+import com.m42hub.m42hub_api.file.entity.ImageVariant;
+import com.m42hub.m42hub_api.file.entity.UploadedImage;
+import com.m42hub.m42hub_api.file.repository.UploadedImageRepository;
+import com.m42hub.m42hub_api.file.storage.ImageStorage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Service
+public class ImageProcessingService {
+
+    private final UploadedImageRepository uploadedImageRepository;
+    private final ImageProcessor imageProcessor;
+    private final ImageStorage imageStorage;
+
+    public String upload(byte[] content, String contentType, String fileName, ImageVariant variant) {
+        String sourceHash = ImageProcessor.hash(content);
+
+        // Reenvios do mesmo arquivo reaproveitam a URL já publicada, sem reduzir nem enviar de novo
+        Optional<UploadedImage> uploaded = uploadedImageRepository.findBySourceHashAndVariant(sourceHash, variant);
+        if (uploaded.isPresent()) {
+            return uploaded.get().getImageUrl();
+        }
+
+        ProcessedImage image = imageProcessor.process(content, contentType, fileName, variant);
+        String imageUrl = imageStorage.store(image);
+
+        int inserted = uploadedImageRepository.insertIfAbsent(sourceHash, variant.name(), imageUrl,
+                (long) content.length, (long) image.content().length);
+
+        // Outro worker indexou o mesmo arquivo ao mesmo tempo: vale a URL que ficou registrada
+        if (inserted == 0) {
+            return uploadedImageRepository.findBySourceHashAndVariant(sourceHash, variant)
+                    .map(UploadedImage::getImageUrl)
+                    .orElse(imageUrl);
+        }
+
+        return imageUrl;
+    }
+
+}
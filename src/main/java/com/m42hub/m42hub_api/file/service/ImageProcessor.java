@@ -0,0 +1,299 @@
+package com.m42hub.m42hub_api.file.service;
+
+import com.m42hub.m42hub_api.exceptions.BadRequestException;
+import com.m42hub.m42hub_api.file.entity.ImageVariant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+
+@Component
+public class ImageProcessor {
+
+    private static final String JPEG = "jpeg";
+    private static final String PNG = "png";
+    private static final String GIF_CONTENT_TYPE = "image/gif";
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    private final Dimension avatarBounds;
+    private final Dimension bannerBounds;
+    private final Dimension imageBounds;
+    private final float jpegQuality;
+    private final long maxPixels;
+
+    public ImageProcessor(
+            @Value("${m42hub.image.avatar.max-width}") int avatarMaxWidth,
+            @Value("${m42hub.image.avatar.max-height}") int avatarMaxHeight,
+            @Value("${m42hub.image.banner.max-width}") int bannerMaxWidth,
+            @Value("${m42hub.image.banner.max-height}") int bannerMaxHeight,
+            @Value("${m42hub.image.max-width}") int imageMaxWidth,
+            @Value("${m42hub.image.max-height}") int imageMaxHeight,
+            @Value("${m42hub.image.jpeg-quality}") float jpegQuality,
+            @Value("${m42hub.image.max-pixels}") long maxPixels
+    ) {
+        this.avatarBounds = new Dimension(avatarMaxWidth, avatarMaxHeight);
+        this.bannerBounds = new Dimension(bannerMaxWidth, bannerMaxHeight);
+        this.imageBounds = new Dimension(imageMaxWidth, imageMaxHeight);
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+    }
+
+    public static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    public ProcessedImage process(byte[] content, String contentType, String fileName, ImageVariant variant) {
+        ProcessedImage original = new ProcessedImage(content, contentType, fileName);
+
+        // Reencodar um GIF perderia a animação
+        if (GIF_CONTENT_TYPE.equalsIgnoreCase(contentType)) {
+            return original;
+        }
+
+        // Fotos de celular guardam os pixels deitados e a rotação só no EXIF, que o reencode descarta
+        int orientation = exifOrientation(content);
+        Dimension bounds = bounds(variant);
+        BufferedImage decoded = decode(content, orientation > 4 ? new Dimension(bounds.height, bounds.width) : bounds);
+
+        // Formatos que o ImageIO não lê (CMYK, WebP...) seguem como vieram e o ImgBB decide
+        if (decoded == null) {
+            return original;
+        }
+
+        BufferedImage source = orient(decoded, orientation);
+
+        double scale = Math.min(1.0, Math.min(
+                bounds.getWidth() / source.getWidth(),
+                bounds.getHeight() / source.getHeight()
+        ));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        boolean alpha = source.getColorModel().hasAlpha();
+        BufferedImage resized = resize(source, width, height, alpha);
+        byte[] encoded = alpha ? encodePng(resized) : encodeJpeg(resized);
+
+        // Dentro do limite, a imagem só é trocada quando o reencode de fato economiza bytes
+        if (scale == 1.0 && encoded.length >= content.length) {
+            return original;
+        }
+
+        String format = alpha ? PNG : JPEG;
+        return new ProcessedImage(encoded, "image/" + format, baseName(fileName) + "." + (alpha ? PNG : "jpg"));
+    }
+
+    private Dimension bounds(ImageVariant variant) {
+        return switch (variant) {
+            case AVATAR -> avatarBounds;
+            case BANNER -> bannerBounds;
+            case IMAGE -> imageBounds;
+        };
+    }
+
+    // Os streams em memória evitam o cache em disco que o ImageIO cria por padrão
+    private BufferedImage decode(byte[] content, Dimension bounds) {
+        try (ImageInputStream input = new MemoryCacheImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+
+                // As dimensões vêm só do cabeçalho: um arquivo pequeno pode declarar pixels que não cabem na heap
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new BadRequestException("Imagem com " + width + "x" + height + " pixels excede o limite de " + maxPixels + " pixels");
+                }
+
+                // Reduções grandes já são feitas na leitura, mantendo ao menos o dobro do tamanho final para o resize
+                int subsampling = Math.max(1, (int) (Math.max(width / bounds.getWidth(), height / bounds.getHeight()) / 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException exception) {
+            return null;
+        }
+    }
+
+    // Lê a tag Orientation (0x0112) do IFD0 no segmento APP1 do JPEG; qualquer coisa fora do esperado vale como 1
+    private static int exifOrientation(byte[] content) {
+        if (content.length < 4 || (content[0] & 0xFF) != 0xFF || (content[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+
+        int offset = 2;
+        while (offset + 4 <= content.length && (content[offset] & 0xFF) == 0xFF) {
+            int marker = content[offset + 1] & 0xFF;
+            if (marker == 0xDA || marker == 0xD9) {
+                return 1;
+            }
+
+            int length = readUnsignedShort(content, offset + 2, false);
+            int tiff = offset + 10;
+            if (marker == 0xE1 && offset + 2 + length <= content.length && length >= 16
+                    && new String(content, offset + 4, 6, StandardCharsets.ISO_8859_1).equals("Exif\0\0")) {
+                return tiffOrientation(content, tiff, offset + 2 + length);
+            }
+            offset += 2 + length;
+        }
+        return 1;
+    }
+
+    private static int tiffOrientation(byte[] content, int tiff, int end) {
+        boolean littleEndian = content[tiff] == 'I' && content[tiff + 1] == 'I';
+        if (!littleEndian && !(content[tiff] == 'M' && content[tiff + 1] == 'M')) {
+            return 1;
+        }
+
+        long ifd = tiff + readUnsignedInt(content, tiff + 4, littleEndian);
+        if (ifd + 2 > end) {
+            return 1;
+        }
+
+        int entries = readUnsignedShort(content, (int) ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return 1;
+            }
+            if (readUnsignedShort(content, entry, littleEndian) == EXIF_ORIENTATION_TAG) {
+                int orientation = readUnsignedShort(content, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readUnsignedShort(byte[] content, int offset, boolean littleEndian) {
+        int first = content[offset] & 0xFF;
+        int second = content[offset + 1] & 0xFF;
+        return littleEndian ? (second << 8) | first : (first << 8) | second;
+    }
+
+    private static long readUnsignedInt(byte[] content, int offset, boolean littleEndian) {
+        long high = readUnsignedShort(content, offset + (littleEndian ? 2 : 0), littleEndian);
+        long low = readUnsignedShort(content, offset + (littleEndian ? 0 : 2), littleEndian);
+        return (high << 16) | low;
+    }
+
+    // Aplica a orientação do EXIF nos pixels (2 a 8: espelhamentos e rotações de 90°, 180° e 270°)
+    private static BufferedImage orient(BufferedImage source, int orientation) {
+        if (orientation == 1) {
+            return source;
+        }
+
+        int width = source.getWidth();
+        int height = source.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+            default -> new AffineTransform(0, -1, 1, 0, 0, width);
+        };
+
+        boolean swap = orientation > 4;
+        boolean alpha = source.getColorModel().hasAlpha();
+        BufferedImage oriented = new BufferedImage(swap ? height : width, swap ? width : height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        graphics.drawImage(source, transform, null);
+        graphics.dispose();
+        return oriented;
+    }
+
+    // Reduções grandes são feitas pela metade a cada passo; um único passo bilinear gera serrilhado
+    private static BufferedImage resize(BufferedImage source, int width, int height, boolean alpha) {
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+
+            BufferedImage step = new BufferedImage(currentWidth, currentHeight, type);
+            Graphics2D graphics = step.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            graphics.dispose();
+
+            current = step;
+        } while (currentWidth != width || currentHeight != height);
+
+        return current;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(JPEG).next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = new MemoryCacheImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] encodePng(BufferedImage image) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = new MemoryCacheImageOutputStream(output)) {
+            ImageIO.write(image, PNG, imageOutput);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return output.toByteArray();
+    }
+
+    private static String baseName(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            return "image";
+        }
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.m42hub.m42hub_api.file.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+@Component
+public class ImageSpool {
+
+    private final Path directory;
+
+    public ImageSpool(@Value("${m42hub.image.spool-dir}") Path directory) {
+        this.directory = directory;
+    }
+
+    public void write(UUID jobId, MultipartFile file) {
+        Path target = path(jobId);
+        Path partial = directory.resolve(jobId + ".part");
+
+        // Grava em arquivo temporário e renomeia, para o worker nunca ler um envio pela metade
+        try (InputStream inputStream = file.getInputStream()) {
+            Files.createDirectories(directory);
+            Files.copy(inputStream, partial, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Não foi possível gravar a imagem no spool", exception);
+        }
+    }
+
+    public boolean exists(UUID jobId) {
+        return Files.exists(path(jobId));
+    }
+
+    public byte[] read(UUID jobId) {
+        try {
+            return Files.readAllBytes(path(jobId));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Imagem não encontrada no spool", exception);
+        }
+    }
+
+    public void delete(UUID jobId) {
+        try {
+            Files.deleteIfExists(path(jobId));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private Path path(UUID jobId) {
+        return directory.resolve(jobId.toString());
+    }
+
+}
@@ -0,0 +1,212 @@
+package com.m42hub.m42hub_api.file.service;
+
+import com.m42hub.m42hub_api.exceptions.BadRequestException;
+import com.m42hub.m42hub_api.exceptions.ServiceUnavailableException;
+import com.m42hub.m42hub_api.file.entity.ImageUploadJob;
+import com.m42hub.m42hub_api.file.entity.ImageUploadStatus;
+import com.m42hub.m42hub_api.file.entity.ImageUploadTarget;
+import com.m42hub.m42hub_api.file.repository.ImageUploadJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class ImageUploadService {
+
+    private static final List<ImageUploadStatus> UNFINISHED_STATUSES = List.of(ImageUploadStatus.PENDING, ImageUploadStatus.PROCESSING);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final int MARK_FAILED_ATTEMPTS = 3;
+    private static final long MARK_FAILED_BACKOFF_MILLIS = 500;
+
+    private final ImageUploadJobRepository repository;
+    private final ImageSpool imageSpool;
+    private final ImageProcessingService imageProcessingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor executor;
+
+    public ImageUploadService(
+            ImageUploadJobRepository repository,
+            ImageSpool imageSpool,
+            ImageProcessingService imageProcessingService,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${m42hub.image.upload.concurrency}") int concurrency,
+            @Value("${m42hub.image.upload.queue-capacity}") int queueCapacity
+    ) {
+        this.repository = repository;
+        this.imageSpool = imageSpool;
+        this.imageProcessingService = imageProcessingService;
+        this.eventPublisher = eventPublisher;
+
+        // Threads virtuais esperam o ImgBB sem ocupar threads de plataforma; o pool fixo limita os envios simultâneos
+        // e a fila limitada impede que uma queda do ImgBB acumule jobs sem fim
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), Thread.ofVirtual().name("image-upload-", 0).factory());
+    }
+
+    @Transactional
+    public ImageUploadJob submit(MultipartFile file, ImageUploadTarget target, Long targetId, Long requestedBy) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("Arquivo de imagem vazio");
+        }
+        if (executor.getQueue().remainingCapacity() == 0) {
+            throw new ServiceUnavailableException("Fila de envio de imagens cheia. Tente novamente em instantes.");
+        }
+
+        ImageUploadJob job = repository.save(ImageUploadJob.builder()
+                .target(target)
+                .targetId(targetId)
+                .requestedBy(requestedBy)
+                .status(ImageUploadStatus.PENDING)
+                .fileName(file.getOriginalFilename())
+                .contentType(file.getContentType())
+                .build());
+
+        UUID jobId = job.getId();
+        imageSpool.write(jobId, file);
+
+        // O worker só enxerga o job depois do commit; se a transação for desfeita o spool não serve para nada
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(jobId);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        imageSpool.delete(jobId);
+                    }
+                }
+            });
+        } else {
+            dispatch(jobId);
+        }
+
+        return job;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ImageUploadJob> findById(UUID id, Long requestedBy) {
+        return repository.findById(id)
+                .filter(job -> Objects.equals(job.getRequestedBy(), requestedBy));
+    }
+
+    // Jobs interrompidos por um restart voltam para a fila, desde que a imagem ainda esteja no spool desta instância
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        repository.findAllByStatusIn(UNFINISHED_STATUSES)
+                .stream()
+                .map(ImageUploadJob::getId)
+                .filter(imageSpool::exists)
+                .forEach(this::dispatch);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private void dispatch(UUID jobId) {
+        try {
+            executor.execute(() -> process(jobId));
+        } catch (RejectedExecutionException exception) {
+            // Desligando: o job fica PENDING com o spool e é retomado na próxima subida
+            if (executor.isShutdown()) {
+                return;
+            }
+            if (markFailed(jobId, "Fila de envio de imagens cheia")) {
+                imageSpool.delete(jobId);
+            }
+        }
+    }
+
+    private void process(UUID jobId) {
+        try {
+            Optional<ImageUploadJob> optJob = repository.findById(jobId);
+            if (optJob.isEmpty()) {
+                imageSpool.delete(jobId);
+                return;
+            }
+
+            ImageUploadJob job = optJob.get();
+            job.setStatus(ImageUploadStatus.PROCESSING);
+            repository.save(job);
+
+            String imageUrl = imageProcessingService.upload(
+                    imageSpool.read(jobId),
+                    job.getContentType(),
+                    job.getFileName(),
+                    job.getTarget().getVariant()
+            );
+
+            // Jobs terminam fora de ordem; só o envio mais recente para o mesmo alvo troca a imagem
+            if (isLatestForTarget(job)) {
+                eventPublisher.publishEvent(new ImageUploadedEvent(job.getTarget(), job.getTargetId(), imageUrl));
+            }
+
+            job.setImageUrl(imageUrl);
+            job.setStatus(ImageUploadStatus.DONE);
+            repository.save(job);
+        } catch (RuntimeException exception) {
+            // Sem status final gravado o spool fica, para que o resumeUnfinished tente de novo
+            if (!markFailed(jobId, exception.getMessage())) {
+                return;
+            }
+        }
+
+        imageSpool.delete(jobId);
+    }
+
+    private boolean isLatestForTarget(ImageUploadJob job) {
+        if (job.getTargetId() == null) {
+            return true;
+        }
+
+        return repository.findFirstByTargetAndTargetIdOrderByCreatedAtDesc(job.getTarget(), job.getTargetId())
+                .map(latest -> latest.getId().equals(job.getId()))
+                .orElse(true);
+    }
+
+    private boolean markFailed(UUID jobId, String error) {
+        for (int attempt = 1; attempt <= MARK_FAILED_ATTEMPTS; attempt++) {
+            try {
+                repository.markFailed(jobId, error);
+                return true;
+            } catch (RuntimeException exception) {
+                if (attempt == MARK_FAILED_ATTEMPTS) {
+                    log.error("Não foi possível marcar o job de imagem {} como FAILED", jobId, exception);
+                    return false;
+                }
+            }
+
+            try {
+                Thread.sleep(MARK_FAILED_BACKOFF_MILLIS * attempt);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+
+}
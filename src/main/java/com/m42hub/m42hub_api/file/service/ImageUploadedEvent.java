@@ -0,0 +1,6 @@
+package com.m42hub.m42hub_api.file.service;
+
+import com.m42hub.m42hub_api.file.entity.ImageUploadTarget;
+
+public record ImageUploadedEvent(ImageUploadTarget target, Long targetId, String imageUrl) {
+}
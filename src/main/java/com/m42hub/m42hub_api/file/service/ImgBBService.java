@@ -1,7 +1,9 @@
 package com.m42hub.m42hub_api.file.service;
 
 import com.m42hub.m42hub_api.file.client.ImgBBClient;
+import com.m42hub.m42hub_api.file.client.ImgBBResilience;
 import com.m42hub.m42hub_api.file.dto.response.ImgBBResponse;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -11,9 +13,12 @@ import org.springframework.web.multipart.MultipartFile;
 public class ImgBBService {
 
     private final ImgBBClient imgBBClient;
+    private final ImgBBResilience imgBBResilience;
 
+    // Tempo total do envio, incluindo novas tentativas e espera no bulkhead; cada tentativa fica em imgbb.requests
+    @Timed(value = "imgbb.upload", histogram = true, description = "Envio de imagem ao ImgBB")
     public String uploadImage(MultipartFile file) {
-        ImgBBResponse response = imgBBClient.uploadImage(file);
+        ImgBBResponse response = imgBBResilience.call(() -> imgBBClient.uploadImage(file));
 
         if (response != null && response.success() && response.data() != null) {
             return response.data().url();
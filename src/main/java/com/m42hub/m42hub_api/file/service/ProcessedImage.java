@@ -0,0 +1,4 @@
+package com.m42hub.m42hub_api.file.service;
+
+public record ProcessedImage(byte[] content, String contentType, String fileName) {
+}
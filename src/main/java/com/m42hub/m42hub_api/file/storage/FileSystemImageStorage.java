@@ -0,0 +1,123 @@
+package com.m42hub.m42hub_api.file.storage;
+
+import com.m42hub.m42hub_api.file.service.ImageProcessor;
+import com.m42hub.m42hub_api.file.service.ProcessedImage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@Component
+@ConditionalOnProperty(name = "m42hub.image.storage.type", havingValue = "filesystem")
+public class FileSystemImageStorage implements ImageStorage {
+
+    public static final String IMAGE_PATH = "/api/v1/image/";
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final int SIGNATURE_LENGTH = 12;
+
+    private final Path directory;
+    private final String publicBaseUrl;
+
+    public FileSystemImageStorage(
+            @Value("${m42hub.image.storage.dir}") Path directory,
+            @Value("${m42hub.image.storage.public-base-url}") String publicBaseUrl
+    ) {
+        this.directory = directory;
+        this.publicBaseUrl = publicBaseUrl.endsWith("/") ? publicBaseUrl.substring(0, publicBaseUrl.length() - 1) : publicBaseUrl;
+    }
+
+    @Override
+    public String store(ProcessedImage image) {
+        String hash = ImageProcessor.hash(image.content());
+        Path target = path(hash);
+
+        // O nome é o hash do conteúdo: se o arquivo existe, ele já é exatamente esta imagem
+        if (!Files.exists(target)) {
+            Path partial = target.resolveSibling(hash + "." + UUID.randomUUID() + ".part");
+            try {
+                Files.createDirectories(target.getParent());
+                Files.write(partial, image.content());
+                Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException exception) {
+                deleteQuietly(partial);
+            } catch (IOException exception) {
+                deleteQuietly(partial);
+                throw new UncheckedIOException("Não foi possível gravar a imagem", exception);
+            }
+        }
+
+        return publicBaseUrl + IMAGE_PATH + hash;
+    }
+
+    @Override
+    public Optional<StoredImageFile> find(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+
+        Path path = path(hash);
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            byte[] signature = inputStream.readNBytes(SIGNATURE_LENGTH);
+            return Optional.of(new StoredImageFile(hash, path, Files.size(path), mediaType(signature)));
+        } catch (IOException exception) {
+            return Optional.empty();
+        }
+    }
+
+    // Dois níveis de diretório evitam pastas com milhões de arquivos
+    private Path path(String hash) {
+        return directory.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    // O tipo vem da assinatura do arquivo, já que o nome é só o hash
+    private static MediaType mediaType(byte[] signature) {
+        if (startsWith(signature, 0xFF, 0xD8, 0xFF)) {
+            return MediaType.IMAGE_JPEG;
+        }
+        if (startsWith(signature, 0x89, 'P', 'N', 'G')) {
+            return MediaType.IMAGE_PNG;
+        }
+        if (startsWith(signature, 'G', 'I', 'F', '8')) {
+            return MediaType.IMAGE_GIF;
+        }
+        if (startsWith(signature, 'R', 'I', 'F', 'F') && signature.length >= SIGNATURE_LENGTH
+                && Arrays.equals(Arrays.copyOfRange(signature, 8, 12), new byte[]{'W', 'E', 'B', 'P'})) {
+            return MediaType.parseMediaType("image/webp");
+        }
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+
+    private static boolean startsWith(byte[] content, int... prefix) {
+        if (content.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if ((content[i] & 0xFF) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // O .part órfão não atrapalha leituras, que sempre usam o nome final
+        }
+    }
+
+}
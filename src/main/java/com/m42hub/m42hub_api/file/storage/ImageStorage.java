@@ -0,0 +1,17 @@
+package com.m42hub.m42hub_api.file.storage;
+
+import com.m42hub.m42hub_api.file.service.ProcessedImage;
+
+import java.util.Optional;
+
+public interface ImageStorage {
+
+    // Devolve a URL pública da imagem
+    String store(ProcessedImage image);
+
+    // Só backends que guardam o arquivo localmente conseguem servi-lo pela API
+    default Optional<StoredImageFile> find(String hash) {
+        return Optional.empty();
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.m42hub.m42hub_api.file.storage;
+
+import com.m42hub.m42hub_api.file.service.ImgBBService;
+import com.m42hub.m42hub_api.file.service.ProcessedImage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "m42hub.image.storage.type", havingValue = "imgbb", matchIfMissing = true)
+public class ImgBBImageStorage implements ImageStorage {
+
+    private final ImgBBService imgBBService;
+
+    @Override
+    public String store(ProcessedImage image) {
+        return imgBBService.uploadImage(new InMemoryImage(image.content(), image.fileName(), image.contentType()));
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.m42hub.m42hub_api.file.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+// Imagem já processada, exposta como MultipartFile para o cliente Feign do ImgBB
+class InMemoryImage implements MultipartFile {
+
+    private final byte[] content;
+    private final String fileName;
+    private final String contentType;
+
+    InMemoryImage(byte[] content, String fileName, String contentType) {
+        this.content = content;
+        this.fileName = fileName;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public String getName() {
+        return "image";
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return fileName;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return content.length == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return content.length;
+    }
+
+    @Override
+    public byte[] getBytes() {
+        return content;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.write(dest.toPath(), content);
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.m42hub.m42hub_api.file.storage;
+
+import org.springframework.http.MediaType;
+
+import java.nio.file.Path;
+
+public record StoredImageFile(String hash, Path path, long size, MediaType mediaType) {
+}
@@ -1,5 +1,6 @@
 package com.m42hub.m42hub_api.project.controller;
 
+import com.m42hub.m42hub_api.config.ETags;
 import com.m42hub.m42hub_api.project.dto.request.ComplexityRequest;
 import com.m42hub.m42hub_api.project.dto.response.ComplexityResponse;
 import com.m42hub.m42hub_api.project.entity.Complexity;
@@ -11,6 +12,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,7 +24,11 @@ public class ComplexityController {
     private final ComplexityService complexityService;
 
     @GetMapping()
-    public ResponseEntity<List<ComplexityResponse>> getAll() {
+    public ResponseEntity<List<ComplexityResponse>> getAll(WebRequest request) {
+        if (request.checkNotModified(ETags.of(complexityService.revision()))) {
+            return null;
+        }
+
         return ResponseEntity.ok(complexityService.findAll()
                 .stream()
                 .map(ComplexityMapper::toComplexityResponse)
@@ -30,7 +36,11 @@ public class ComplexityController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ComplexityResponse> getById(@PathVariable Long id) {
+    public ResponseEntity<ComplexityResponse> getById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(ETags.of(complexityService.revision()))) {
+            return null;
+        }
+
         return complexityService.findById(id)
                 .map(complexity -> ResponseEntity.ok(ComplexityMapper.toComplexityResponse(complexity)))
                 .orElse(ResponseEntity.notFound().build());
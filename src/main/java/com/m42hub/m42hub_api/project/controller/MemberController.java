@@ -8,14 +8,18 @@ import com.m42hub.m42hub_api.project.dto.response.MemberResponse;
 import com.m42hub.m42hub_api.project.entity.Member;
 import com.m42hub.m42hub_api.project.mapper.MemberMapper;
 import com.m42hub.m42hub_api.project.service.MemberService;
+import com.m42hub.m42hub_api.shared.export.ExportFormat;
+import com.m42hub.m42hub_api.shared.export.StreamingExporter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -25,6 +29,7 @@ import java.util.List;
 public class MemberController {
 
     private final MemberService memberService;
+    private final StreamingExporter streamingExporter;
 
     @GetMapping()
     @PreAuthorize("hasRole('ADMIN') or hasAuthority('member:get_all')")
@@ -35,6 +40,12 @@ public class MemberController {
                 .toList());
     }
 
+    @GetMapping(produces = {ExportFormat.NDJSON_VALUE, ExportFormat.CSV_VALUE})
+    @PreAuthorize("hasRole('ADMIN') or hasAuthority('member:get_all')")
+    public ResponseEntity<StreamingResponseBody> export(@RequestHeader(HttpHeaders.ACCEPT) String accept) {
+        return streamingExporter.export(accept, "members", MemberResponse.class, memberService::exportAll, MemberMapper::toMemberResponse);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasAuthority('member:get_by_id')")
     public ResponseEntity<MemberResponse> getById(@PathVariable Long id) {
@@ -1,6 +1,9 @@
 package com.m42hub.m42hub_api.project.controller;
 
+import com.m42hub.m42hub_api.config.ETags;
 import com.m42hub.m42hub_api.config.JWTUserData;
+import com.m42hub.m42hub_api.file.dto.response.ImageUploadJobResponse;
+import com.m42hub.m42hub_api.file.mapper.ImageUploadJobMapper;
 import com.m42hub.m42hub_api.project.dto.request.ChangeUnfilledRolesRequest;
 import com.m42hub.m42hub_api.project.dto.request.ProjectRequest;
 import com.m42hub.m42hub_api.project.dto.request.ProjectUpdateRequest;
@@ -11,16 +14,23 @@ import com.m42hub.m42hub_api.project.entity.Project;
 import com.m42hub.m42hub_api.project.mapper.PageMapper;
 import com.m42hub.m42hub_api.project.mapper.ProjectMapper;
 import com.m42hub.m42hub_api.project.service.ProjectService;
+import com.m42hub.m42hub_api.project.specification.MatchMode;
+import com.m42hub.m42hub_api.shared.export.ExportFormat;
+import com.m42hub.m42hub_api.shared.export.StreamingExporter;
+import com.m42hub.m42hub_api.shared.pagination.CursorPage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -30,6 +40,7 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final StreamingExporter streamingExporter;
 
     @GetMapping()
     public ResponseEntity<List<ProjectResponse>> getAll() {
@@ -39,8 +50,18 @@ public class ProjectController {
                 .toList());
     }
 
+    @GetMapping(produces = {ExportFormat.NDJSON_VALUE, ExportFormat.CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> export(@RequestHeader(HttpHeaders.ACCEPT) String accept) {
+        return streamingExporter.export(accept, "projects", ProjectResponse.class, projectService::exportAll, ProjectMapper::toProjectResponse);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectResponse> getById(@PathVariable Long id) {
+    public ResponseEntity<ProjectResponse> getById(@PathVariable Long id, WebRequest request) {
+        // A versão é uma única leitura em resource_versions: com o ETag ainda válido o 304 sai sem carregar nem mapear o projeto
+        if (request.checkNotModified(ETags.of(projectService.version(id)))) {
+            return null;
+        }
+
         return projectService.findById(id)
                 .map(project -> ResponseEntity.ok(ProjectMapper.toProjectResponse(project)))
                 .orElse(ResponseEntity.notFound().build());
@@ -56,9 +77,19 @@ public class ProjectController {
             @RequestParam(required = false) List<Long> complexity,
             @RequestParam(required = false) List<Long> tools,
             @RequestParam(required = false) List<Long> topics,
-            @RequestParam(required = false) List<Long> unfilledRoles
+            @RequestParam(required = false) List<Long> unfilledRoles,
+            @RequestParam(defaultValue = "ANY", required = false) MatchMode match,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false", required = false) Boolean includeTotal
     ) {
-        Page<Project> projectPage = projectService.findByParams(page, limit, sortBy, sortDirection, status, complexity, tools, topics, unfilledRoles);
+        // Paginação por cursor é opcional: "cursor=" vazio pede a primeira página
+        if (cursor != null) {
+            CursorPage<Project> projectPage = projectService.findByCursor(cursor, limit, sortBy, sortDirection, includeTotal, status, complexity, tools, topics, unfilledRoles, match);
+
+            return ResponseEntity.ok(PageMapper.toCursorResponse(projectPage, ProjectMapper::toProjectListResponse));
+        }
+
+        Page<Project> projectPage = projectService.findByParams(page, limit, sortBy, sortDirection, status, complexity, tools, topics, unfilledRoles, match);
 
         PageResponse<ProjectListItemResponse> response = PageMapper.toPagedResponse(projectPage, ProjectMapper::toProjectListResponse);
 
@@ -105,13 +136,13 @@ public class ProjectController {
 
     @PatchMapping("/banner/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasAuthority('user:change-project-banner')")
-    public ResponseEntity<ProjectResponse> changeProjectBanner(@PathVariable Long id, @RequestParam("file") MultipartFile file) {
+    public ResponseEntity<ImageUploadJobResponse> changeProjectBanner(@PathVariable Long id, @RequestParam("file") MultipartFile file) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         JWTUserData userData = (JWTUserData) authentication.getPrincipal();
 
         return projectService.changeProjectBanner(file, id, userData.id())
-                .map(project -> ResponseEntity.ok(ProjectMapper.toProjectResponse(project)))
+                .map(ImageUploadJobMapper::toAcceptedResponse)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -1,5 +1,6 @@
 package com.m42hub.m42hub_api.project.controller;
 
+import com.m42hub.m42hub_api.config.ETags;
 import com.m42hub.m42hub_api.project.dto.request.RoleRequest;
 import com.m42hub.m42hub_api.project.dto.response.RoleResponse;
 import com.m42hub.m42hub_api.project.entity.Role;
@@ -11,6 +12,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,7 +24,11 @@ public class RoleController {
     private final RoleService roleService;
 
     @GetMapping()
-    public ResponseEntity<List<RoleResponse>> getAll() {
+    public ResponseEntity<List<RoleResponse>> getAll(WebRequest request) {
+        if (request.checkNotModified(ETags.of(roleService.revision()))) {
+            return null;
+        }
+
         return ResponseEntity.ok(roleService.findAll()
                 .stream()
                 .map(RoleMapper::toRoleResponse)
@@ -30,7 +36,11 @@ public class RoleController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<RoleResponse> getById(@PathVariable Long id) {
+    public ResponseEntity<RoleResponse> getById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(ETags.of(roleService.revision()))) {
+            return null;
+        }
+
         return roleService.findById(id)
                 .map(role -> ResponseEntity.ok(RoleMapper.toRoleResponse(role)))
                 .orElse(ResponseEntity.notFound().build());
@@ -1,5 +1,6 @@
 package com.m42hub.m42hub_api.project.controller;
 
+import com.m42hub.m42hub_api.config.ETags;
 import com.m42hub.m42hub_api.project.dto.request.StatusRequest;
 import com.m42hub.m42hub_api.project.dto.response.StatusResponse;
 import com.m42hub.m42hub_api.project.entity.Status;
@@ -11,6 +12,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,7 +24,11 @@ public class StatusController {
     private final StatusService statusService;
 
     @GetMapping()
-    public ResponseEntity<List<StatusResponse>> getAll() {
+    public ResponseEntity<List<StatusResponse>> getAll(WebRequest request) {
+        if (request.checkNotModified(ETags.of(statusService.revision()))) {
+            return null;
+        }
+
         return ResponseEntity.ok(statusService.findAll()
                 .stream()
                 .map(StatusMapper::toStatusResponse)
@@ -30,7 +36,11 @@ public class StatusController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<StatusResponse> getById(@PathVariable Long id) {
+    public ResponseEntity<StatusResponse> getById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(ETags.of(statusService.revision()))) {
+            return null;
+        }
+
         return statusService.findById(id)
                 .map(status -> ResponseEntity.ok(StatusMapper.toStatusResponse(status)))
                 .orElse(ResponseEntity.notFound().build());
@@ -1,5 +1,6 @@
 package com.m42hub.m42hub_api.project.controller;
 
+import com.m42hub.m42hub_api.config.ETags;
 import com.m42hub.m42hub_api.project.dto.request.ChangeColorRequest;
 import com.m42hub.m42hub_api.project.dto.request.ToolRequest;
 import com.m42hub.m42hub_api.project.dto.response.ToolResponse;
@@ -12,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -23,7 +25,11 @@ public class ToolController {
     private final ToolService toolService;
 
     @GetMapping()
-    public ResponseEntity<List<ToolResponse>> getAll() {
+    public ResponseEntity<List<ToolResponse>> getAll(WebRequest request) {
+        if (request.checkNotModified(ETags.of(toolService.revision()))) {
+            return null;
+        }
+
         return ResponseEntity.ok(toolService.findAll()
                 .stream()
                 .map(ToolMapper::toToolResponse)
@@ -31,7 +37,11 @@ public class ToolController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ToolResponse> getById(@PathVariable Long id) {
+    public ResponseEntity<ToolResponse> getById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(ETags.of(toolService.revision()))) {
+            return null;
+        }
+
         return toolService.findById(id)
                 .map(tool -> ResponseEntity.ok(ToolMapper.toToolResponse(tool)))
                 .orElse(ResponseEntity.notFound().build());
@@ -1,5 +1,6 @@
 package com.m42hub.m42hub_api.project.controller;
 
+import com.m42hub.m42hub_api.config.ETags;
 import com.m42hub.m42hub_api.project.dto.request.ChangeColorRequest;
 import com.m42hub.m42hub_api.project.dto.request.TopicRequest;
 import com.m42hub.m42hub_api.project.dto.response.TopicResponse;
@@ -12,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -23,7 +25,11 @@ public class TopicController {
     private final TopicService topicService;
 
     @GetMapping()
-    public ResponseEntity<List<TopicResponse>> getAll() {
+    public ResponseEntity<List<TopicResponse>> getAll(WebRequest request) {
+        if (request.checkNotModified(ETags.of(topicService.revision()))) {
+            return null;
+        }
+
         return ResponseEntity.ok(topicService.findAll()
                 .stream()
                 .map(TopicMapper::toTopicResponse)
@@ -31,7 +37,11 @@ public class TopicController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TopicResponse> getById(@PathVariable Long id) {
+    public ResponseEntity<TopicResponse> getById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(ETags.of(topicService.revision()))) {
+            return null;
+        }
+
         return topicService.findById(id)
                 .map(topic -> ResponseEntity.ok(TopicMapper.toTopicResponse(topic)))
                 .orElse(ResponseEntity.notFound().build());
@@ -5,8 +5,10 @@ import lombok.Builder;
 
 @Builder
 public record PaginationResponse(
-        int currentPage,
-        int totalPages,
-        long totalElements
+        Integer currentPage,
+        Integer totalPages,
+        Long totalElements,
+        String nextCursor,
+        Boolean totalIsEstimate
 ) {
 }
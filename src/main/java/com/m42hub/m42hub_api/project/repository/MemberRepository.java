@@ -1,14 +1,31 @@
 package com.m42hub.m42hub_api.project.repository;
 
 import com.m42hub.m42hub_api.project.entity.Member;
+import com.m42hub.m42hub_api.shared.export.ExportChunks;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     List<Member> findAllByUserId(Long userId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportChunks.FETCH_SIZE))
+    @Query("""
+            select m from Member m
+            join fetch m.project
+            join fetch m.role
+            join fetch m.memberStatus
+            join fetch m.user u
+            join fetch u.systemRole
+            """)
+    Stream<Member> streamAllForExport();
+
 }
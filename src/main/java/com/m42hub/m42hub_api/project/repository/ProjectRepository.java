@@ -1,10 +1,45 @@
 package com.m42hub.m42hub_api.project.repository;
 
 import com.m42hub.m42hub_api.project.entity.Project;
+import com.m42hub.m42hub_api.shared.export.ExportChunks;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project>, ProjectRepositoryCustom {
+
+    @Query("select p from Project p left join fetch p.status left join fetch p.complexity left join fetch p.tools where p.id in :ids")
+    List<Project> findAllWithToolsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select p from Project p left join fetch p.topics where p.id in :ids")
+    List<Project> findAllWithTopicsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select p from Project p left join fetch p.unfilledRoles where p.id in :ids")
+    List<Project> findAllWithUnfilledRolesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select p from Project p
+            left join fetch p.members m
+            left join fetch m.role
+            left join fetch m.memberStatus
+            left join fetch m.user u
+            left join fetch u.systemRole
+            where p.id in :ids
+            """)
+    List<Project> findAllWithMembersByIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportChunks.FETCH_SIZE))
+    @Query("select p from Project p")
+    Stream<Project> streamAllForExport();
+
 }
@@ -0,0 +1,17 @@
+package com.m42hub.m42hub_api.project.repository;
+
+import com.m42hub.m42hub_api.project.entity.Project;
+import com.m42hub.m42hub_api.shared.pagination.CursorPage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface ProjectRepositoryCustom {
+
+    List<Long> findIds(Specification<Project> spec, Pageable pageable);
+
+    CursorPage<Long> findIdsAfter(Specification<Project> spec, Sort.Order order, String cursor, int limit);
+
+}
@@ -0,0 +1,30 @@
+package com.m42hub.m42hub_api.project.repository;
+
+import com.m42hub.m42hub_api.project.entity.Project;
+import com.m42hub.m42hub_api.shared.pagination.CursorPage;
+import com.m42hub.m42hub_api.shared.pagination.KeysetPagination;
+import com.m42hub.m42hub_api.shared.pagination.OffsetPagination;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Long> findIds(Specification<Project> spec, Pageable pageable) {
+        return OffsetPagination.findIds(entityManager, Project.class, spec, pageable);
+    }
+
+    @Override
+    public CursorPage<Long> findIdsAfter(Specification<Project> spec, Sort.Order order, String cursor, int limit) {
+        return KeysetPagination.findIds(entityManager, Project.class, spec, order, cursor, limit);
+    }
+
+}
@@ -1,11 +1,14 @@
 package com.m42hub.m42hub_api.project.service;
 
+import com.m42hub.m42hub_api.config.CatalogCache;
 import com.m42hub.m42hub_api.project.entity.Complexity;
 import com.m42hub.m42hub_api.project.repository.ComplexityRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,20 +18,38 @@ import java.util.Optional;
 public class ComplexityService {
 
     private final ComplexityRepository repository;
+    private final CatalogCache<Complexity> cache = new CatalogCache<>(this::loadCatalog, Complexity::getId,
+            complexity -> Arrays.asList(complexity.getId(), complexity.getName(), complexity.getHexColor(), complexity.getDescription()));
 
     @Transactional(readOnly = true)
     public List<Complexity> findAll() {
-        return repository.findAllByOrderByNameAsc();
+        return cache.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public String revision() {
+        return cache.revision();
     }
 
     @Transactional(readOnly = true)
     public Optional<Complexity> findById(Long id) {
-        return repository.findById(id);
+        return cache.findById(id, repository::findById);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Complexity> findAllById(Collection<Long> ids) {
+        return cache.findAllById(ids, repository::findAllById);
     }
 
     @Transactional
     public Complexity save(Complexity status) {
-        return repository.save(status);
+        Complexity saved = repository.save(status);
+        cache.invalidate();
+        return saved;
+    }
+
+    private List<Complexity> loadCatalog() {
+        return repository.findAllByOrderByNameAsc();
     }
 
 }
@@ -7,14 +7,19 @@ import com.m42hub.m42hub_api.project.entity.Member;
 import com.m42hub.m42hub_api.project.entity.MemberStatus;
 import com.m42hub.m42hub_api.project.entity.Project;
 import com.m42hub.m42hub_api.project.repository.MemberRepository;
+import com.m42hub.m42hub_api.shared.export.ExportChunks;
 import com.m42hub.m42hub_api.user.entity.User;
 import com.m42hub.m42hub_api.user.service.UserService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,12 +29,20 @@ public class MemberService {
     private final MemberStatusService memberStatusService;
     private final UserService userService;
     private final ProjectService projectService;
+    private final EntityManager entityManager;
 
     @Transactional(readOnly = true)
     public List<Member> findAll() {
         return repository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<Member> consumer) {
+        try (Stream<Member> members = repository.streamAllForExport()) {
+            ExportChunks.forEach(members, entityManager, chunk -> chunk.forEach(consumer));
+        }
+    }
+
     @Transactional(readOnly = true)
     public Optional<Member> findById(Long id) {
         return repository.findById(id);
@@ -53,7 +66,10 @@ public class MemberService {
         member.setMemberStatus(findMemberStatus(member.getMemberStatus()));
         member.setUser(findUser(member.getUser()));
 
-        return repository.save(member);
+        Member saved = repository.save(member);
+        projectService.incrementVersion(saved.getProject().getId());
+
+        return saved;
     }
 
     @Transactional
@@ -73,7 +89,7 @@ public class MemberService {
 
         if (projectService.isRoleFilled(project, member.getRole())) throw new ConflictException("Cargo já preenchido");
 
-        project.getUnfilledRoles().remove(member.getRole());
+        project.getUnfilledRoles().removeIf(role -> Objects.equals(role.getId(), member.getRole().getId()));
 
         projectService.update(project.getId(), project, userId);
 
@@ -108,18 +124,21 @@ public class MemberService {
         member.setApplicationFeedback(applicationFeedback);
 
         repository.save(member);
+        projectService.incrementVersion(project.getId());
 
         return Optional.of(member);
     }
 
     @Transactional
     private MemberStatus findMemberStatus(MemberStatus memberStatus) {
-        return memberStatusService.findById(memberStatus.getId()).orElse(null);
+        return memberStatusService.findById(memberStatus.getId())
+                .orElseThrow(() -> new CustomNotFoundException("Status de membro não encontrado: " + memberStatus.getId()));
     }
 
     @Transactional
     private User findUser(User user) {
-        return userService.findById(user.getId()).orElse(null);
+        return userService.findById(user.getId())
+                .orElseThrow(() -> new CustomNotFoundException("Usuário não encontrado: " + user.getId()));
     }
 
 }
@@ -1,5 +1,6 @@
 package com.m42hub.m42hub_api.project.service;
 
+import com.m42hub.m42hub_api.config.CatalogCache;
 import com.m42hub.m42hub_api.project.entity.MemberStatus;
 import com.m42hub.m42hub_api.project.entity.Status;
 import com.m42hub.m42hub_api.project.repository.MemberStatusRepository;
@@ -8,6 +9,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,19 +19,37 @@ import java.util.Optional;
 public class MemberStatusService {
 
     private final MemberStatusRepository repository;
+    private final CatalogCache<MemberStatus> cache = new CatalogCache<>(this::loadCatalog, MemberStatus::getId,
+            memberStatus -> Arrays.asList(memberStatus.getId(), memberStatus.getName(), memberStatus.getDescription()));
 
     @Transactional(readOnly = true)
     public List<MemberStatus> findAll() {
-        return repository.findAll();
+        return cache.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public String revision() {
+        return cache.revision();
     }
 
     @Transactional(readOnly = true)
     public Optional<MemberStatus> findById(Long id) {
-        return repository.findById(id);
+        return cache.findById(id, repository::findById);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MemberStatus> findAllById(Collection<Long> ids) {
+        return cache.findAllById(ids, repository::findAllById);
     }
 
     @Transactional
     public MemberStatus save(MemberStatus memberStatus) {
-        return repository.save(memberStatus);
+        MemberStatus saved = repository.save(memberStatus);
+        cache.invalidate();
+        return saved;
+    }
+
+    private List<MemberStatus> loadCatalog() {
+        return repository.findAll();
     }
 }
@@ -1,15 +1,27 @@
 package com.m42hub.m42hub_api.project.service;
 
+import com.m42hub.m42hub_api.config.IdResolver;
+import com.m42hub.m42hub_api.config.ResourceVersions;
 import com.m42hub.m42hub_api.exceptions.ConflictException;
+import com.m42hub.m42hub_api.exceptions.CustomNotFoundException;
 import com.m42hub.m42hub_api.exceptions.UnauthorizedException;
 import com.m42hub.m42hub_api.exceptions.UsernameOrPasswordInvalidException;
-import com.m42hub.m42hub_api.file.service.ImgBBService;
+import com.m42hub.m42hub_api.file.entity.ImageUploadJob;
+import com.m42hub.m42hub_api.file.entity.ImageUploadTarget;
+import com.m42hub.m42hub_api.file.service.ImageUploadService;
+import com.m42hub.m42hub_api.file.service.ImageUploadedEvent;
 import com.m42hub.m42hub_api.project.entity.*;
 import com.m42hub.m42hub_api.project.repository.ProjectRepository;
+import com.m42hub.m42hub_api.project.specification.MatchMode;
 import com.m42hub.m42hub_api.project.specification.ProjectSpecification;
+import com.m42hub.m42hub_api.shared.export.ExportChunks;
+import com.m42hub.m42hub_api.shared.pagination.CursorPage;
+import com.m42hub.m42hub_api.shared.pagination.PageTotalService;
 import com.m42hub.m42hub_api.user.entity.User;
 import com.m42hub.m42hub_api.user.service.UserService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,10 +31,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -36,7 +53,13 @@ public class ProjectService {
     private final RoleService roleService;
     private final MemberStatusService memberStatusService;
     private final UserService userService;
-    private final ImgBBService imgBBService;
+    private final ImageUploadService imageUploadService;
+    private final PageTotalService pageTotalService;
+    private final ResourceVersions resourceVersions;
+    private final EntityManager entityManager;
+
+    private static final String TABLE_NAME = "projects";
+    private static final String VERSION_PREFIX = "project:";
 
 
     @Transactional(readOnly = true)
@@ -49,6 +72,35 @@ public class ProjectService {
         return repository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<Project> consumer) {
+        try (Stream<Project> projects = repository.streamAllForExport()) {
+            ExportChunks.forEach(projects, entityManager, chunk -> {
+                loadListingGraph(chunk.stream().map(Project::getId).toList());
+                chunk.forEach(consumer);
+            });
+        }
+    }
+
+    // O detalhe embute membros e catálogos, então a versão combina todos eles
+    @Transactional(readOnly = true)
+    public String version(Long projectId) {
+        return String.join(":",
+                resourceVersions.current(VERSION_PREFIX + projectId),
+                userService.profilesVersion(),
+                statusService.revision(),
+                complexityService.revision(),
+                toolService.revision(),
+                topicService.revision(),
+                roleService.revision(),
+                memberStatusService.revision()
+        );
+    }
+
+    public void incrementVersion(Long projectId) {
+        resourceVersions.increment(VERSION_PREFIX + projectId);
+    }
+
     @Transactional(readOnly = true)
     public Page<Project> findByParams(
             Integer page,
@@ -59,7 +111,8 @@ public class ProjectService {
             List<Long> complexity,
             List<Long> tools,
             List<Long> topics,
-            List<Long> unfilledRoles
+            List<Long> unfilledRoles,
+            MatchMode match
     ) {
         if (sortBy == null || sortBy.isEmpty()) {
             sortBy = "id";
@@ -72,6 +125,63 @@ public class ProjectService {
 
         Pageable pageable = PageRequest.of(page, limit, sort);
 
+        Specification<Project> spec = buildSpecification(status, complexity, tools, topics, unfilledRoles, match);
+
+        List<Long> projectIds = repository.findIds(spec, pageable);
+
+        return pageTotalService.toPage(
+                findAllForListing(projectIds),
+                pageable,
+                TABLE_NAME,
+                totalFilters(status, complexity, tools, topics, unfilledRoles, match),
+                () -> repository.count(spec)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Project> findByCursor(
+            String cursor,
+            Integer limit,
+            String sortBy,
+            String sortDirection,
+            boolean includeTotal,
+            List<Long> status,
+            List<Long> complexity,
+            List<Long> tools,
+            List<Long> topics,
+            List<Long> unfilledRoles,
+            MatchMode match
+    ) {
+        if (sortBy == null || sortBy.isEmpty()) {
+            sortBy = "id";
+        }
+
+        Sort.Order order = "DESC".equalsIgnoreCase(sortDirection) ? Sort.Order.desc(sortBy) : Sort.Order.asc(sortBy);
+
+        Specification<Project> spec = buildSpecification(status, complexity, tools, topics, unfilledRoles, match);
+
+        CursorPage<Long> projectIds = repository.findIdsAfter(spec, order, cursor, limit);
+        CursorPage<Project> projects = projectIds.withContent(findAllForListing(projectIds.content()));
+
+        if (!includeTotal) {
+            return projects;
+        }
+
+        return projects.withTotal(pageTotalService.total(
+                TABLE_NAME,
+                totalFilters(status, complexity, tools, topics, unfilledRoles, match),
+                () -> repository.count(spec)
+        ));
+    }
+
+    private Specification<Project> buildSpecification(
+            List<Long> status,
+            List<Long> complexity,
+            List<Long> tools,
+            List<Long> topics,
+            List<Long> unfilledRoles,
+            MatchMode match
+    ) {
         Specification<Project> spec = Specification.allOf();
 
         if (status != null) {
@@ -83,18 +193,58 @@ public class ProjectService {
         }
 
         if (tools != null) {
-            spec = spec.and(ProjectSpecification.tools(tools));
+            spec = spec.and(ProjectSpecification.tools(tools, match));
         }
 
         if (topics != null) {
-            spec = spec.and(ProjectSpecification.topics(topics));
+            spec = spec.and(ProjectSpecification.topics(topics, match));
         }
 
         if (unfilledRoles != null) {
-            spec = spec.and(ProjectSpecification.unfilledRoles(unfilledRoles));
+            spec = spec.and(ProjectSpecification.unfilledRoles(unfilledRoles, match));
+        }
+
+        return spec;
+    }
+
+    private List<Object> totalFilters(
+            List<Long> status,
+            List<Long> complexity,
+            List<Long> tools,
+            List<Long> topics,
+            List<Long> unfilledRoles,
+            MatchMode match
+    ) {
+        // O modo de combinação só altera o resultado quando há filtro por coleção
+        boolean usesMatch = tools != null || topics != null || unfilledRoles != null;
+
+        return Arrays.asList(status, complexity, tools, topics, unfilledRoles, usesMatch ? match : null);
+    }
+
+    private List<Project> findAllForListing(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
 
-        return repository.findAll(spec, pageable);
+        Map<Long, Project> projectsById = loadListingGraph(ids);
+
+        return ids.stream()
+                .map(projectsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Map<Long, Project> loadListingGraph(List<Long> ids) {
+        Map<Long, Project> projectsById = repository.findAllWithToolsByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        // Cada coleção é carregada em uma consulta própria para evitar produto cartesiano entre as listas
+        repository.findAllWithTopicsByIdIn(ids);
+        repository.findAllWithUnfilledRolesByIdIn(ids);
+        repository.findAllWithMembersByIdIn(ids);
+
+        return projectsById;
     }
 
     @Transactional
@@ -104,12 +254,13 @@ public class ProjectService {
         project.setTools(this.findTools(project.getTools()));
         project.setTopics(this.findTopics(project.getTopics()));
         project.setUnfilledRoles(this.findUnfilledRoles(project.getUnfilledRoles()));
-        project.getMembers().forEach(member -> {
-            member.setMemberStatus(this.findMemberStatus(member.getMemberStatus()));
-            member.setUser(this.findUser(member.getUser()));
-        });
+        this.resolveMembers(project.getMembers());
+
+        Project saved = repository.save(project);
+        pageTotalService.invalidate(TABLE_NAME);
+        incrementVersion(saved.getId());
 
-        return repository.save(project);
+        return saved;
     }
 
     public Optional<Project> update(Long projectId, Project updatedProject, Long userId) {
@@ -159,6 +310,8 @@ public class ProjectService {
             }
 
             repository.save(project);
+            pageTotalService.invalidate(TABLE_NAME);
+            incrementVersion(project.getId());
             return Optional.of(project);
 
         }
@@ -186,28 +339,44 @@ public class ProjectService {
             project.setUnfilledRoles(unfilledRolesFound);
 
             repository.save(project);
+            pageTotalService.invalidate(TABLE_NAME);
+            incrementVersion(project.getId());
             return Optional.of(project);
         }
 
         return Optional.empty();
     }
 
-    public Optional<Project> changeProjectBanner(MultipartFile file, Long projectId, Long userId) {
+    @Transactional
+    public Optional<ImageUploadJob> changeProjectBanner(MultipartFile file, Long projectId, Long userId) {
         Optional<Project> optProject = repository.findById(projectId);
         if (optProject.isPresent()) {
             Project project = optProject.get();
 
             if (this.isNotManager(project, userId)) throw new UnauthorizedException("Usuário que solicitou alteração não é o idealizador do projeto");
 
-            String imageUrl = imgBBService.uploadImage(file);
-            project.setImageUrl(imageUrl);
-
-            repository.save(project);
-            return Optional.of(project);
+            return Optional.of(imageUploadService.submit(file, ImageUploadTarget.PROJECT_BANNER, projectId, userId));
         }
         return Optional.empty();
     }
 
+    // A URL só existe depois que o worker de upload termina o envio
+    @EventListener
+    @Transactional
+    public void onImageUploaded(ImageUploadedEvent event) {
+        if (event.target() != ImageUploadTarget.PROJECT_BANNER) {
+            return;
+        }
+
+        Project project = repository.findById(event.targetId())
+                .orElseThrow(() -> new CustomNotFoundException("Projeto não encontrado"));
+
+        project.setImageUrl(event.imageUrl());
+
+        repository.save(project);
+        incrementVersion(project.getId());
+    }
+
 
     public boolean isNotManager(Project project, Long userId) {
         return project.getMembers().stream()
@@ -220,7 +389,7 @@ public class ProjectService {
         return project.getMembers().stream()
                 .filter(member -> member.getMemberStatus() != null
                         && member.getMemberStatus().getId() == 2L)
-                .anyMatch(member -> member.getRole().equals(role));
+                .anyMatch(member -> Objects.equals(member.getRole().getId(), role.getId()));
     }
 
     @Transactional
@@ -235,33 +404,39 @@ public class ProjectService {
 
     @Transactional
     private List<Tool> findTools(List<Tool> tools) {
-        List<Tool> toolsFound = new ArrayList<>();
-        tools.forEach(tool -> toolService.findById(tool.getId()).ifPresent(toolsFound::add));
-        return toolsFound;
+        return IdResolver.resolve(tools.stream().map(Tool::getId).toList(), toolService::findAllById, Tool::getId, "Ferramentas não encontradas");
     }
 
     @Transactional
     private List<Topic> findTopics(List<Topic> topics) {
-        List<Topic> topicsFound = new ArrayList<>();
-        topics.forEach(topic -> topicService.findById(topic.getId()).ifPresent(topicsFound::add));
-        return topicsFound;
+        return IdResolver.resolve(topics.stream().map(Topic::getId).toList(), topicService::findAllById, Topic::getId, "Tópicos não encontrados");
     }
 
     @Transactional
     private List<Role> findUnfilledRoles(List<Role> unfilledRoles) {
-        List<Role> unfilledRolesFound = new ArrayList<>();
-        unfilledRoles.forEach(unffiledRole -> roleService.findById(unffiledRole.getId()).ifPresent(unfilledRolesFound::add));
-        return unfilledRolesFound;
+        return IdResolver.resolve(unfilledRoles.stream().map(Role::getId).toList(), roleService::findAllById, Role::getId, "Cargos não encontrados");
     }
 
     @Transactional
-    private MemberStatus findMemberStatus(MemberStatus memberStatus) {
-        return memberStatusService.findById(memberStatus.getId()).orElse(null);
-    }
-
-    @Transactional
-    private User findUser(User user) {
-        return userService.findById(user.getId()).orElse(null);
+    private void resolveMembers(List<Member> members) {
+        Map<Long, MemberStatus> memberStatusesById = IdResolver.resolve(
+                members.stream().map(member -> member.getMemberStatus().getId()).toList(),
+                memberStatusService::findAllById,
+                MemberStatus::getId,
+                "Status de membro não encontrados"
+        ).stream().collect(Collectors.toMap(MemberStatus::getId, Function.identity()));
+
+        Map<Long, User> usersById = IdResolver.resolve(
+                members.stream().map(member -> member.getUser().getId()).toList(),
+                userService::findAllById,
+                User::getId,
+                "Usuários não encontrados"
+        ).stream().collect(Collectors.toMap(User::getId, Function.identity()));
+
+        members.forEach(member -> {
+            member.setMemberStatus(memberStatusesById.get(member.getMemberStatus().getId()));
+            member.setUser(usersById.get(member.getUser().getId()));
+        });
     }
 
 }
@@ -1,11 +1,14 @@
 package com.m42hub.m42hub_api.project.service;
 
+import com.m42hub.m42hub_api.config.CatalogCache;
 import com.m42hub.m42hub_api.project.entity.Role;
 import com.m42hub.m42hub_api.project.repository.RoleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,20 +18,38 @@ import java.util.Optional;
 public class RoleService {
 
     private final RoleRepository repository;
+    private final CatalogCache<Role> cache = new CatalogCache<>(this::loadCatalog, Role::getId,
+            role -> Arrays.asList(role.getId(), role.getName(), role.getDescription()));
 
     @Transactional(readOnly = true)
     public List<Role> findAll() {
-        return repository.findAllByOrderByNameAsc();
+        return cache.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public String revision() {
+        return cache.revision();
     }
 
     @Transactional(readOnly = true)
     public Optional<Role> findById(Long id) {
-        return repository.findById(id);
+        return cache.findById(id, repository::findById);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Role> findAllById(Collection<Long> ids) {
+        return cache.findAllById(ids, repository::findAllById);
     }
 
     @Transactional
     public Role save(Role status) {
-        return repository.save(status);
+        Role saved = repository.save(status);
+        cache.invalidate();
+        return saved;
+    }
+
+    private List<Role> loadCatalog() {
+        return repository.findAllByOrderByNameAsc();
     }
 
 }
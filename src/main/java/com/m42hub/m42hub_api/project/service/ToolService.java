@@ -1,11 +1,14 @@
 package com.m42hub.m42hub_api.project.service;
 
+import com.m42hub.m42hub_api.config.CatalogCache;
 import com.m42hub.m42hub_api.project.entity.Tool;
 import com.m42hub.m42hub_api.project.repository.ToolRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,20 +18,34 @@ import java.util.Optional;
 public class ToolService {
 
     private final ToolRepository repository;
+    private final CatalogCache<Tool> cache = new CatalogCache<>(this::loadCatalog, Tool::getId,
+            tool -> Arrays.asList(tool.getId(), tool.getName(), tool.getHexColor(), tool.getDescription()));
 
     @Transactional(readOnly = true)
     public List<Tool> findAll() {
-        return repository.findAllByOrderByNameAsc();
+        return cache.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public String revision() {
+        return cache.revision();
     }
 
     @Transactional(readOnly = true)
     public Optional<Tool> findById(Long id) {
-        return repository.findById(id);
+        return cache.findById(id, repository::findById);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Tool> findAllById(Collection<Long> ids) {
+        return cache.findAllById(ids, repository::findAllById);
     }
 
     @Transactional
     public Tool save(Tool tool) {
-        return repository.save(tool);
+        Tool saved = repository.save(tool);
+        cache.invalidate();
+        return saved;
     }
 
     @Transactional
@@ -39,10 +56,15 @@ public class ToolService {
             tool.setHexColor(hexColor);
 
             repository.save(tool);
+            cache.invalidate();
             return Optional.of(tool);
         }
 
         return Optional.empty();
     }
 
+    private List<Tool> loadCatalog() {
+        return repository.findAllByOrderByNameAsc();
+    }
+
 }
@@ -1,11 +1,14 @@
 package com.m42hub.m42hub_api.project.service;
 
+import com.m42hub.m42hub_api.config.CatalogCache;
 import com.m42hub.m42hub_api.project.entity.Topic;
 import com.m42hub.m42hub_api.project.repository.TopicRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,20 +18,34 @@ import java.util.Optional;
 public class TopicService {
 
     private final TopicRepository repository;
+    private final CatalogCache<Topic> cache = new CatalogCache<>(this::loadCatalog, Topic::getId,
+            topic -> Arrays.asList(topic.getId(), topic.getName(), topic.getHexColor(), topic.getDescription()));
 
     @Transactional(readOnly = true)
     public List<Topic> findAll() {
-        return repository.findAllByOrderByNameAsc();
+        return cache.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public String revision() {
+        return cache.revision();
     }
 
     @Transactional(readOnly = true)
     public Optional<Topic> findById(Long id) {
-        return repository.findById(id);
+        return cache.findById(id, repository::findById);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Topic> findAllById(Collection<Long> ids) {
+        return cache.findAllById(ids, repository::findAllById);
     }
 
     @Transactional
     public Topic save(Topic topic) {
-        return repository.save(topic);
+        Topic saved = repository.save(topic);
+        cache.invalidate();
+        return saved;
     }
 
     @Transactional
@@ -39,10 +56,15 @@ public class TopicService {
             topic.setHexColor(hexColor);
 
             repository.save(topic);
+            cache.invalidate();
             return Optional.of(topic);
         }
 
         return Optional.empty();
     }
 
+    private List<Topic> loadCatalog() {
+        return repository.findAllByOrderByNameAsc();
+    }
+
 }
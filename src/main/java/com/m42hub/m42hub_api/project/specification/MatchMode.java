@@ -0,0 +1,6 @@
+package com.m42hub.m42hub_api.project.specification;
+
+public enum MatchMode {
+    ANY,
+    ALL
+}
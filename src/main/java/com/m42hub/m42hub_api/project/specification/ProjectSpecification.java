@@ -1,52 +1,69 @@
 package com.m42hub.m42hub_api.project.specification;
 
 import com.m42hub.m42hub_api.project.entity.*;
-import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.*;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
-import java.util.Optional;
 
 public class ProjectSpecification {
 
     public static Specification<Project> status (List<Long> statusIds) {
-        return (root, query, criteriaBuilder) -> {
-            Optional.ofNullable(query).ifPresent(q -> q.distinct(true));
-            Join<Project, Status> join = root.join("status");
-            return join.get("id").in(statusIds);
-        };
+        return (root, query, criteriaBuilder) -> root.get("status").get("id").in(statusIds);
     }
 
     public static Specification<Project> complexity (List<Long> complexityIds) {
-        return (root, query, criteriaBuilder) -> {
-            Optional.ofNullable(query).ifPresent(q -> q.distinct(true));
-            Join<Project, Complexity> join = root.join("complexity");
-            return join.get("id").in(complexityIds);
-        };
+        return (root, query, criteriaBuilder) -> root.get("complexity").get("id").in(complexityIds);
     }
 
-    public static Specification<Project> tools (List<Long> toolIds) {
-        return (root, query, criteriaBuilder) -> {
-            Optional.ofNullable(query).ifPresent(q -> q.distinct(true));
-            Join<Project, Tool> join = root.join("tools");
-            return join.get("id").in(toolIds);
-        };
+    public static Specification<Project> tools (List<Long> toolIds, MatchMode matchMode) {
+        return related("tools", toolIds, matchMode);
     }
 
-    public static Specification<Project> topics (List<Long> topicIds) {
-        return (root, query, criteriaBuilder) -> {
-            Optional.ofNullable(query).ifPresent(q -> q.distinct(true));
-            Join<Project, Topic> join = root.join("topics");
-            return join.get("id").in(topicIds);
-        };
+    public static Specification<Project> topics (List<Long> topicIds, MatchMode matchMode) {
+        return related("topics", topicIds, matchMode);
     }
 
-    public static Specification<Project> unfilledRoles (List<Long> unfilledRoleIds) {
+    public static Specification<Project> unfilledRoles (List<Long> unfilledRoleIds, MatchMode matchMode) {
+        return related("unfilledRoles", unfilledRoleIds, matchMode);
+    }
+
+    private static Specification<Project> related(String attribute, List<Long> ids, MatchMode matchMode) {
         return (root, query, criteriaBuilder) -> {
-            Optional.ofNullable(query).ifPresent(q -> q.distinct(true));
-            Join<Project, Role> join = root.join("unfilledRoles");
-            return join.get("id").in(unfilledRoleIds);
+            assert query != null;
+
+            // Lista vazia (ex.: ?tools=) não filtra, nos dois modos; sem isso o ALL viraria um and() sempre verdadeiro
+            // e o ANY um IN vazio que nunca casa
+            if (ids == null || ids.isEmpty()) {
+                return null;
+            }
+
+            if (matchMode == MatchMode.ALL) {
+                Predicate[] predicates = ids.stream()
+                        .distinct()
+                        .map(id -> criteriaBuilder.exists(relatedSubquery(root, query, criteriaBuilder, attribute, List.of(id))))
+                        .toArray(Predicate[]::new);
+                return criteriaBuilder.and(predicates);
+            }
+
+            return criteriaBuilder.exists(relatedSubquery(root, query, criteriaBuilder, attribute, ids));
         };
     }
 
+    private static Subquery<Long> relatedSubquery(
+            Root<Project> root,
+            CommonAbstractCriteria query,
+            CriteriaBuilder criteriaBuilder,
+            String attribute,
+            List<Long> ids
+    ) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Project> correlatedRoot = subquery.correlate(root);
+        Join<Project, ?> join = correlatedRoot.join(attribute);
+
+        return subquery
+                .select(criteriaBuilder.literal(1L))
+                .where(join.get("id").in(ids));
+    }
+
 }
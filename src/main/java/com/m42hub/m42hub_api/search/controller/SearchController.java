@@ -0,0 +1,36 @@
+package com.m42hub.m42hub_api.search.controller;
+
+import com.m42hub.m42hub_api.search.dto.response.SearchResultResponse;
+import com.m42hub.m42hub_api.search.mapper.SearchMapper;
+import com.m42hub.m42hub_api.search.repository.SearchResult;
+import com.m42hub.m42hub_api.search.repository.SearchResultType;
+import com.m42hub.m42hub_api.search.service.SearchService;
+import com.m42hub.m42hub_api.shared.dto.PageResponse;
+import com.m42hub.m42hub_api.shared.mapper.PageMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping()
+    public ResponseEntity<PageResponse<SearchResultResponse>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) List<SearchResultType> type,
+            @RequestParam(defaultValue = "0", required = false) Integer page,
+            @RequestParam(defaultValue = "10", required = false) Integer limit
+    ) {
+        Page<SearchResult> resultPage = searchService.search(q, type, page, limit);
+
+        return ResponseEntity.ok(PageMapper.toPagedResponse(resultPage, SearchMapper::toSearchResultResponse));
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.m42hub.m42hub_api.search.dto.response;
+
+import com.m42hub.m42hub_api.search.repository.SearchResultType;
+import lombok.Builder;
+
+@Builder
+public record SearchResultResponse(
+        SearchResultType type,
+        String id,
+        String title,
+        String summary,
+        Double rank
+) {
+}
@@ -0,0 +1,20 @@
+package com.m42hub.m42hub_api.search.mapper;
+
+import com.m42hub.m42hub_api.search.dto.response.SearchResultResponse;
+import com.m42hub.m42hub_api.search.repository.SearchResult;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class SearchMapper {
+
+    public static SearchResultResponse toSearchResultResponse(SearchResult result) {
+        return SearchResultResponse.builder()
+                .type(result.type())
+                .id(result.id())
+                .title(result.title())
+                .summary(result.summary())
+                .rank(result.rank())
+                .build();
+    }
+
+}
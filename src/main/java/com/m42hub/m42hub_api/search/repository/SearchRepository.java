@@ -0,0 +1,84 @@
+package com.m42hub.m42hub_api.search.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class SearchRepository {
+
+    private static final String PORTUGUESE_QUERY = "websearch_to_tsquery('portuguese', :query)";
+
+    // Nome de usuário é indexado sem stemming, então a busca aceita as duas configurações
+    private static final String USER_QUERY = "(websearch_to_tsquery('portuguese', :query) || websearch_to_tsquery('simple', :query))";
+
+    // O tsquery fica inline em cada ramo para o planner usar o índice GIN com a consulta já resolvida
+    private static final Map<SearchResultType, String> BRANCHES = Map.of(
+            SearchResultType.PROJECT, """
+                    SELECT 'PROJECT' AS type, CAST(p.project_id AS TEXT) AS id, p.name AS title, p.summary AS summary,
+                           ts_rank(p.search_vector, %1$s) AS rank
+                    FROM projects p
+                    WHERE p.search_vector @@ %1$s
+                    """.formatted(PORTUGUESE_QUERY),
+            SearchResultType.USER, """
+                    SELECT 'USER' AS type, CAST(u.user_id AS TEXT) AS id, u.username AS title, u.biography AS summary,
+                           ts_rank(u.search_vector, %1$s) AS rank
+                    FROM users u
+                    WHERE u.search_vector @@ %1$s AND u.is_active
+                    """.formatted(USER_QUERY),
+            SearchResultType.CONTRIBUTION, """
+                    SELECT 'CONTRIBUTION' AS type, CAST(c.contribution_id AS TEXT) AS id, c.name AS title, c.description AS summary,
+                           ts_rank(c.search_vector, %1$s) AS rank
+                    FROM contributions c
+                    WHERE c.search_vector @@ %1$s
+                    """.formatted(PORTUGUESE_QUERY)
+    );
+
+    private final EntityManager entityManager;
+
+    public List<SearchResult> search(String query, Collection<SearchResultType> types, long offset, int limit) {
+        Query nativeQuery = entityManager.createNativeQuery(union(types) + """
+                        ORDER BY rank DESC, type, id
+                        LIMIT :limit OFFSET :offset
+                        """)
+                .setParameter("query", query)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = nativeQuery.getResultList();
+
+        return rows.stream()
+                .map(row -> new SearchResult(
+                        SearchResultType.valueOf((String) row[0]),
+                        (String) row[1],
+                        (String) row[2],
+                        (String) row[3],
+                        ((Number) row[4]).doubleValue()
+                ))
+                .toList();
+    }
+
+    public long count(String query, Collection<SearchResultType> types) {
+        Object total = entityManager.createNativeQuery("SELECT count(*) FROM (" + union(types) + ") results")
+                .setParameter("query", query)
+                .getSingleResult();
+
+        return ((Number) total).longValue();
+    }
+
+    private static String union(Collection<SearchResultType> types) {
+        return types.stream()
+                .sorted()
+                .map(BRANCHES::get)
+                .collect(Collectors.joining(" UNION ALL "));
+    }
+
+}
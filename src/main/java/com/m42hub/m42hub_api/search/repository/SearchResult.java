@@ -0,0 +1,4 @@
+package com.m42hub.m42hub_api.search.repository;
+
+public record SearchResult(SearchResultType type, String id, String title, String summary, Double rank) {
+}
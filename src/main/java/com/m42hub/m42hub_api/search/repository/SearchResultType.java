@@ -0,0 +1,7 @@
+package com.m42hub.m42hub_api.search.repository;
+
+public enum SearchResultType {
+    PROJECT,
+    USER,
+    CONTRIBUTION
+}
@@ -0,0 +1,62 @@
+package com.m42hub.m42hub_api.search.service;
+
+import com.m42hub.m42hub_api.exceptions.BadRequestException;
+import com.m42hub.m42hub_api.search.repository.SearchRepository;
+import com.m42hub.m42hub_api.search.repository.SearchResult;
+import com.m42hub.m42hub_api.search.repository.SearchResultType;
+import com.m42hub.m42hub_api.shared.pagination.PageTotalService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private final SearchRepository repository;
+    private final PageTotalService pageTotalService;
+
+    // Os resultados misturam três tabelas, então o total só expira pelo TTL do cache
+    private static final String TABLE_NAME = "search";
+
+    // Cada página roda a UNION com ts_rank nas três tabelas; páginas grandes demais viram uma varredura completa
+    private static final int MAX_LIMIT = 50;
+
+    @Transactional(readOnly = true)
+    public Page<SearchResult> search(String query, List<SearchResultType> types, Integer page, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Informe o termo de busca");
+        }
+        if (page == null || page < 0) {
+            throw new BadRequestException("page deve ser maior ou igual a zero");
+        }
+        if (limit == null || limit <= 0 || limit > MAX_LIMIT) {
+            throw new BadRequestException("limit deve estar entre 1 e " + MAX_LIMIT);
+        }
+
+        String normalizedQuery = query.trim();
+        Set<SearchResultType> searchedTypes = types == null || types.isEmpty()
+                ? EnumSet.allOf(SearchResultType.class)
+                : EnumSet.copyOf(types);
+
+        Pageable pageable = PageRequest.of(page, limit);
+
+        List<SearchResult> results = repository.search(normalizedQuery, searchedTypes, pageable.getOffset(), pageable.getPageSize());
+
+        return pageTotalService.toPage(
+                results,
+                pageable,
+                TABLE_NAME,
+                List.of(normalizedQuery, searchedTypes),
+                () -> repository.count(normalizedQuery, searchedTypes)
+        );
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.m42hub.m42hub_api.shared.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+@UtilityClass
+public class AsyncCaches {
+
+    // Cache.get(key, loader) roda o loader dentro do lock do ConcurrentHashMap; com virtual threads no JDK 21,
+    // uma consulta ao banco ali prende a carrier thread. Aqui o loader roda na thread de quem chamou, fora do lock,
+    // e quem chega durante a carga espera pelo mesmo future em vez de repetir a consulta.
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Supplier<V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> existing = cache.asMap().putIfAbsent(key, loading);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            V value = loader.get();
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException | Error exception) {
+            cache.asMap().remove(key, loading);
+            loading.completeExceptionally(exception);
+            throw exception;
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (exception.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+}
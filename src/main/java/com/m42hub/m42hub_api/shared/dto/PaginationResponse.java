@@ -4,8 +4,10 @@ import lombok.Builder;
 
 @Builder
 public record PaginationResponse(
-        int currentPage,
-        int totalPages,
-        long totalElements
+        Integer currentPage,
+        Integer totalPages,
+        Long totalElements,
+        String nextCursor,
+        Boolean totalIsEstimate
 ) {
 }
@@ -0,0 +1,43 @@
+package com.m42hub.m42hub_api.shared.export;
+
+import jakarta.persistence.EntityManager;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@UtilityClass
+public class ExportChunks {
+
+    // Mesmo valor do fetch size das consultas de exportação: um lote por ida ao cursor
+    public static final int CHUNK_SIZE = 500;
+    public static final String FETCH_SIZE = "500";
+
+    // Lê o cursor em lotes: cada lote carrega suas coleções em bloco, é entregue e sai do contexto de persistência
+    public static <T> void forEach(Stream<T> rows, EntityManager entityManager, Consumer<List<T>> chunkConsumer) {
+        List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+
+            if (chunk.size() == CHUNK_SIZE) {
+                flush(chunk, entityManager, chunkConsumer);
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            flush(chunk, entityManager, chunkConsumer);
+        }
+    }
+
+    private static <T> void flush(List<T> chunk, EntityManager entityManager, Consumer<List<T>> chunkConsumer) {
+        chunkConsumer.accept(chunk);
+        chunk.clear();
+        entityManager.clear();
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.m42hub.m42hub_api.shared.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+
+public class ExportWriter<T> {
+
+    // Envia o que já foi gerado a cada lote para o cliente começar a consumir sem esperar o fim
+    private static final int FLUSH_EVERY = 500;
+
+    private final ExportFormat format;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter objectWriter;
+    private final RecordComponent[] columns;
+    private final Writer writer;
+    private final JsonGenerator generator;
+    private int pendingRows;
+
+    public ExportWriter(OutputStream outputStream, ExportFormat format, Class<T> rowType, ObjectMapper objectMapper) {
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.columns = rowType.getRecordComponents();
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        try {
+            this.generator = objectMapper.getFactory()
+                    .createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+
+            // O separador padrão entre valores raiz é um espaço, que abriria cada linha do NDJSON
+            this.generator.setRootValueSeparator(null);
+
+            if (format == ExportFormat.CSV) {
+                writeCsvHeader();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public void write(T row) {
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(row);
+            } else {
+                objectWriter.writeValue(generator, row);
+                generator.flush();
+                writer.write('\n');
+            }
+
+            if (++pendingRows >= FLUSH_EVERY) {
+                finish();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public void finish() {
+        try {
+            generator.flush();
+            writer.flush();
+            pendingRows = 0;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void writeCsvHeader() throws IOException {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write(escapeCsv(columns[i].getName()));
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvRow(T row) throws IOException {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write(escapeCsv(toCsvValue(read(columns[i], row))));
+        }
+        writer.write("\r\n");
+    }
+
+    // Valores simples seguem a serialização do JSON; listas e objetos aninhados viram JSON compacto na célula
+    private String toCsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        JsonNode node = objectMapper.valueToTree(value);
+        if (node.isNull()) {
+            return "";
+        }
+        return node.isValueNode() ? node.asText() : node.toString();
+    }
+
+    private static Object read(RecordComponent column, Object row) {
+        try {
+            return column.getAccessor().invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException exception) {
+            throw new IllegalStateException("Não foi possível ler a coluna " + column.getName(), exception);
+        }
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+}
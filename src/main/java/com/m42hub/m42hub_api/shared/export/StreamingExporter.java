@@ -0,0 +1,45 @@
+package com.m42hub.m42hub_api.shared.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class StreamingExporter {
+
+    private final ObjectMapper objectMapper;
+
+    public <E, R> ResponseEntity<StreamingResponseBody> export(
+            String accept,
+            String name,
+            Class<R> rowType,
+            Consumer<Consumer<E>> source,
+            Function<E, R> converter
+    ) {
+        ExportFormat format = ExportFormat.fromAccept(accept);
+
+        // O corpo roda fora da thread da requisição, então a transação de leitura é aberta pelo próprio source
+        StreamingResponseBody body = outputStream -> {
+            ExportWriter<R> writer = new ExportWriter<>(outputStream, format, rowType, objectMapper);
+            source.accept(entity -> writer.write(converter.apply(entity)));
+            writer.finish();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+}
@@ -2,6 +2,8 @@ package com.m42hub.m42hub_api.shared.mapper;
 
 import com.m42hub.m42hub_api.shared.dto.PageResponse;
 import com.m42hub.m42hub_api.shared.dto.PaginationResponse;
+import com.m42hub.m42hub_api.shared.pagination.CountedPage;
+import com.m42hub.m42hub_api.shared.pagination.CursorPage;
 import lombok.experimental.UtilityClass;
 import org.springframework.data.domain.Page;
 
@@ -16,7 +18,23 @@ public class PageMapper {
         PaginationResponse pagination = new PaginationResponse(
                 page.getNumber(),
                 page.getTotalPages(),
-                page.getTotalElements()
+                page.getTotalElements(),
+                null,
+                page instanceof CountedPage<T> countedPage && countedPage.isTotalEstimate()
+        );
+
+        return new PageResponse<>(content, pagination);
+    }
+
+    public static <T, R> PageResponse<R> toCursorResponse(CursorPage<T> page, Function<T, R> converter) {
+        List<R> content = page.content().stream().map(converter).toList();
+
+        PaginationResponse pagination = new PaginationResponse(
+                null,
+                null,
+                page.totalElements(),
+                page.nextCursor(),
+                page.totalIsEstimate()
         );
 
         return new PageResponse<>(content, pagination);
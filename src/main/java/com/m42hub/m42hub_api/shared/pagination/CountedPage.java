@@ -0,0 +1,19 @@
+package com.m42hub.m42hub_api.shared.pagination;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+@Getter
+public class CountedPage<T> extends PageImpl<T> {
+
+    private final boolean totalEstimate;
+
+    public CountedPage(List<T> content, Pageable pageable, PageTotal total) {
+        super(content, pageable, total.value());
+        this.totalEstimate = total.estimate();
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.m42hub.m42hub_api.shared.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        Long totalElements,
+        Boolean totalIsEstimate
+) {
+
+    public <R> CursorPage<R> withContent(List<R> content) {
+        return new CursorPage<>(content, nextCursor, totalElements, totalIsEstimate);
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> converter) {
+        return withContent(content.stream().map(converter).toList());
+    }
+
+    public CursorPage<T> withTotal(PageTotal total) {
+        return new CursorPage<>(content, nextCursor, total.value(), total.estimate());
+    }
+
+}
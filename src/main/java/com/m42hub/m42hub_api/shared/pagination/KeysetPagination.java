@@ -0,0 +1,239 @@
+package com.m42hub.m42hub_api.shared.pagination;
+
+import com.m42hub.m42hub_api.exceptions.BadRequestException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import lombok.experimental.UtilityClass;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+@UtilityClass
+public class KeysetPagination {
+
+    private static final String ID_ATTRIBUTE = "id";
+    private static final String SEPARATOR = "|";
+    private static final String NULL_VALUE = "~";
+    private static final String VALUE_PREFIX = "=";
+
+    public static <T, ID> CursorPage<ID> findIds(
+            EntityManager entityManager,
+            Class<T> domainClass,
+            Specification<T> spec,
+            Sort.Order order,
+            String cursor,
+            int limit
+    ) {
+        HibernateCriteriaBuilder criteriaBuilder = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<T> root = query.from(domainClass);
+
+        Path<ID> id = root.get(ID_ATTRIBUTE);
+        Path<Comparable<Object>> sortKey = sortKey(root, order.getProperty());
+
+        List<Predicate> predicates = new ArrayList<>();
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+
+        if (cursor != null && !cursor.isBlank()) {
+            Position position = decode(cursor, order, sortKey.getJavaType(), id.getJavaType());
+            boolean nullable = isNullable(entityManager, domainClass, order.getProperty());
+            predicates.add(seek(criteriaBuilder, sortKey, id, position, order, nullable));
+        }
+
+        query.where(predicates.toArray(new Predicate[0]));
+        query.multiselect(id, sortKey);
+
+        // Nulos são tratados como o maior valor, igual ao padrão do Postgres, para o seek bater com a ordenação
+        query.orderBy(
+                order.isAscending() ? criteriaBuilder.asc(sortKey, false) : criteriaBuilder.desc(sortKey, true),
+                order.isAscending() ? criteriaBuilder.asc(id) : criteriaBuilder.desc(id)
+        );
+
+        // Uma linha a mais indica se existe próxima página sem precisar de COUNT
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setMaxResults(limit + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > limit;
+        List<Tuple> pageRows = hasNext ? rows.subList(0, limit) : rows;
+
+        @SuppressWarnings("unchecked")
+        List<ID> ids = pageRows.stream()
+                .map(row -> (ID) row.get(0))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = pageRows.get(pageRows.size() - 1);
+            nextCursor = encode(order, last.get(0), last.get(1));
+        }
+
+        // O total é opcional e vem do PageTotalService, que evita recontar a cada página
+        return new CursorPage<>(ids, nextCursor, null, null);
+    }
+
+    private static <T> Path<Comparable<Object>> sortKey(Root<T> root, String property) {
+        Path<Comparable<Object>> sortKey;
+        try {
+            sortKey = root.get(property);
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException("Campo de ordenação inválido: " + property);
+        }
+
+        if (!Comparable.class.isAssignableFrom(sortKey.getJavaType())) {
+            throw new BadRequestException("Campo de ordenação não suportado na paginação por cursor: " + property);
+        }
+
+        return sortKey;
+    }
+
+    private static <ID> Predicate seek(
+            CriteriaBuilder criteriaBuilder,
+            Path<Comparable<Object>> sortKey,
+            Path<ID> id,
+            Position position,
+            Sort.Order order,
+            boolean nullable
+    ) {
+        @SuppressWarnings("unchecked")
+        Path<Comparable<Object>> idKey = (Path<Comparable<Object>>) id;
+        @SuppressWarnings("unchecked")
+        Comparable<Object> lastId = (Comparable<Object>) position.id();
+        @SuppressWarnings("unchecked")
+        Comparable<Object> lastValue = (Comparable<Object>) position.value();
+
+        Predicate idAfter = order.isAscending()
+                ? criteriaBuilder.greaterThan(idKey, lastId)
+                : criteriaBuilder.lessThan(idKey, lastId);
+
+        if (ID_ATTRIBUTE.equals(order.getProperty())) {
+            return idAfter;
+        }
+
+        if (lastValue == null) {
+            Predicate sameNull = criteriaBuilder.and(criteriaBuilder.isNull(sortKey), idAfter);
+
+            // Em ordem crescente os nulos ficam no fim; em decrescente, no início
+            return order.isAscending()
+                    ? sameNull
+                    : criteriaBuilder.or(sameNull, criteriaBuilder.isNotNull(sortKey));
+        }
+
+        // O limite não estrito é redundante, mas é ele que permite ao índice começar a leitura no cursor
+        Predicate bound = order.isAscending()
+                ? criteriaBuilder.greaterThanOrEqualTo(sortKey, lastValue)
+                : criteriaBuilder.lessThanOrEqualTo(sortKey, lastValue);
+        Predicate valueAfter = order.isAscending()
+                ? criteriaBuilder.greaterThan(sortKey, lastValue)
+                : criteriaBuilder.lessThan(sortKey, lastValue);
+        Predicate sameValue = criteriaBuilder.and(criteriaBuilder.equal(sortKey, lastValue), idAfter);
+
+        Predicate after = criteriaBuilder.and(bound, criteriaBuilder.or(valueAfter, sameValue));
+
+        return order.isAscending() && nullable
+                ? criteriaBuilder.or(after, criteriaBuilder.isNull(sortKey))
+                : after;
+    }
+
+    private static boolean isNullable(EntityManager entityManager, Class<?> domainClass, String property) {
+        AttributeMapping attribute = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(domainClass)
+                .findAttributeMapping(property);
+
+        return attribute == null || attribute.getAttributeMetadata().isNullable();
+    }
+
+    private static String encode(Sort.Order order, Object id, Object value) {
+        String raw = String.join(SEPARATOR,
+                order.getProperty(),
+                order.getDirection().name(),
+                format(id),
+                value == null ? NULL_VALUE : VALUE_PREFIX + format(value)
+        );
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Position decode(String cursor, Sort.Order order, Class<?> valueType, Class<?> idType) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 4);
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException("Cursor inválido");
+        }
+
+        if (parts.length != 4) {
+            throw new BadRequestException("Cursor inválido");
+        }
+
+        if (!parts[0].equals(order.getProperty()) || !parts[1].equals(order.getDirection().name())) {
+            throw new BadRequestException("Cursor não corresponde à ordenação solicitada");
+        }
+
+        try {
+            Object id = parse(parts[2], idType);
+            Object value = parts[3].equals(NULL_VALUE) ? null : parse(parts[3].substring(VALUE_PREFIX.length()), valueType);
+            return new Position(id, value);
+        } catch (RuntimeException exception) {
+            throw new BadRequestException("Cursor inválido");
+        }
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant().toString();
+        }
+        if (value instanceof Date date) {
+            return String.valueOf(date.getTime());
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object parse(String raw, Class<?> type) {
+        if (type == String.class) return raw;
+        if (type == Long.class || type == long.class) return Long.valueOf(raw);
+        if (type == Integer.class || type == int.class) return Integer.valueOf(raw);
+        if (type == BigDecimal.class) return new BigDecimal(raw);
+        if (type == UUID.class) return UUID.fromString(raw);
+        if (type == LocalDateTime.class) return LocalDateTime.parse(raw);
+        if (type == LocalDate.class) return LocalDate.parse(raw);
+        if (type == Instant.class) return Instant.parse(raw);
+        if (type == Boolean.class || type == boolean.class) return Boolean.valueOf(raw);
+        if (Date.class.isAssignableFrom(type)) {
+            return raw.contains("T") ? Timestamp.from(Instant.parse(raw)) : new Date(Long.parseLong(raw));
+        }
+        if (type.isEnum()) return Enum.valueOf((Class<Enum>) type, raw);
+
+        throw new IllegalArgumentException("Tipo não suportado no cursor: " + type.getName());
+    }
+
+    private record Position(Object id, Object value) {
+    }
+
+}
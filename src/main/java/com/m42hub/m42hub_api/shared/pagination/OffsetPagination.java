@@ -0,0 +1,58 @@
+package com.m42hub.m42hub_api.shared.pagination;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@UtilityClass
+public class OffsetPagination {
+
+    private static final String ID_ATTRIBUTE = "id";
+
+    public static <T, ID> List<ID> findIds(
+            EntityManager entityManager,
+            Class<T> domainClass,
+            Specification<T> spec,
+            Pageable pageable
+    ) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<T> root = query.from(domainClass);
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        List<Order> orders = QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder);
+
+        // As colunas de ordenação também precisam estar no select quando a query usa DISTINCT
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get(ID_ATTRIBUTE));
+        orders.forEach(order -> selections.add(order.getExpression()));
+
+        query.multiselect(selections);
+        query.orderBy(orders);
+
+        // O total não é contado aqui: quem pagina decide se usa o PageTotalService
+        @SuppressWarnings("unchecked")
+        List<ID> ids = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList()
+                .stream()
+                .map(tuple -> (ID) tuple.get(0))
+                .toList();
+
+        return ids;
+    }
+
+}
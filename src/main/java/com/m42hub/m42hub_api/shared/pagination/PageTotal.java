@@ -0,0 +1,7 @@
+package com.m42hub.m42hub_api.shared.pagination;
+
+public record PageTotal(
+        long value,
+        boolean estimate
+) {
+}
@@ -0,0 +1,147 @@
+package com.m42hub.m42hub_api.shared.pagination;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.m42hub.m42hub_api.shared.cache.AsyncCaches;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.LongSupplier;
+
+@Component
+public class PageTotalService {
+
+    private static final String ESTIMATE_QUERY = "select reltuples::bigint from pg_class where oid = to_regclass(?)";
+
+    private final AsyncCache<Key, Long> cache;
+    private final AsyncCache<String, Long> estimates;
+    private final JdbcTemplate jdbcTemplate;
+    private final long estimateThreshold;
+
+    public PageTotalService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${m42hub.pagination.total-cache.ttl}") Duration ttl,
+            @Value("${m42hub.pagination.total-cache.max-size}") long maxSize,
+            @Value("${m42hub.pagination.estimate-threshold}") long estimateThreshold
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.estimateThreshold = estimateThreshold;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .buildAsync();
+
+        // O reltuples só muda com ANALYZE/VACUUM, então a estimativa pode ficar o mesmo tempo que as contagens
+        this.estimates = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .buildAsync();
+    }
+
+    public <T> CountedPage<T> toPage(List<T> content, Pageable pageable, String table, List<?> filters, LongSupplier counter) {
+        long offset = pageable.getOffset();
+
+        // Página incompleta já revela o total, como no PageableExecutionUtils
+        if (!content.isEmpty() && content.size() < pageable.getPageSize()) {
+            return new CountedPage<>(content, pageable, new PageTotal(offset + content.size(), false));
+        }
+        if (offset == 0 && content.isEmpty()) {
+            return new CountedPage<>(content, pageable, new PageTotal(0, false));
+        }
+
+        PageTotal total = total(table, filters, counter);
+
+        // A estimativa não pode contradizer as linhas que acabamos de ler
+        if (total.estimate() && total.value() < offset + content.size()) {
+            total = new PageTotal(offset + content.size(), true);
+        }
+
+        return new CountedPage<>(content, pageable, total);
+    }
+
+    public PageTotal total(String table, List<?> filters, LongSupplier counter) {
+        List<Object> normalizedFilters = normalize(filters);
+
+        if (normalizedFilters.stream().allMatch(Objects::isNull)) {
+            long estimate = estimate(table);
+            if (estimate >= estimateThreshold) {
+                return new PageTotal(estimate, true);
+            }
+        }
+
+        return new PageTotal(AsyncCaches.get(cache, new Key(table, normalizedFilters), counter::getAsLong), false);
+    }
+
+    public void invalidate(String table) {
+        evict(table);
+
+        // Uma busca concorrente pode recontar o estado antigo antes do commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(table);
+                }
+            });
+        }
+    }
+
+    private void evict(String table) {
+        cache.asMap().keySet().removeIf(key -> key.table().equals(table));
+    }
+
+    private long estimate(String table) {
+        try {
+            // reltuples vale -1 enquanto a tabela não passou por ANALYZE; falhas não ficam no cache
+            return AsyncCaches.get(estimates, table, () -> {
+                Long estimate = jdbcTemplate.queryForObject(ESTIMATE_QUERY, Long.class, table);
+                return estimate == null ? -1 : estimate;
+            });
+        } catch (DataAccessException exception) {
+            return -1;
+        }
+    }
+
+    private static List<Object> normalize(List<?> filters) {
+        List<Object> normalized = new ArrayList<>(filters.size());
+        for (Object filter : filters) {
+            normalized.add(normalize(filter));
+        }
+        return normalized;
+    }
+
+    // Filtros equivalentes (ordem, repetições, escala) devem cair na mesma entrada do cache
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object normalize(Object filter) {
+        if (filter instanceof Collection<?> collection) {
+            if (collection.stream().allMatch(item -> item instanceof Comparable)) {
+                return List.copyOf(new TreeSet<>((Collection) collection));
+            }
+            return new ArrayList<>(collection);
+        }
+        if (filter instanceof Date date) {
+            return date.getTime();
+        }
+        if (filter instanceof BigDecimal decimal) {
+            return decimal.stripTrailingZeros();
+        }
+        return filter;
+    }
+
+    private record Key(String table, List<Object> filters) {
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.m42hub.m42hub_api.shared.sql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Limite de statements SQL por requisição para um endpoint; sem a anotação vale m42hub.sql-budget.default-max-statements
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    int maxStatements();
+
+}
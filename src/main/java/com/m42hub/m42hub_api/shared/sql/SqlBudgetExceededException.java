@@ -0,0 +1,9 @@
+package com.m42hub.m42hub_api.shared.sql;
+
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.m42hub.m42hub_api.shared.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+// Mede o SQL de cada requisição e avisa quando o endpoint passa do orçamento ou repete o mesmo statement (N+1).
+// Com fail-on-exceed, usado nos testes, a requisição termina com SqlBudgetExceededException.
+@Slf4j
+@Component
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final int defaultMaxStatements;
+    private final int nPlusOneThreshold;
+    private final boolean failOnExceed;
+
+    public SqlBudgetFilter(
+            @Value("${m42hub.sql-budget.enabled}") boolean enabled,
+            @Value("${m42hub.sql-budget.default-max-statements}") int defaultMaxStatements,
+            @Value("${m42hub.sql-budget.n-plus-one-threshold}") int nPlusOneThreshold,
+            @Value("${m42hub.sql-budget.fail-on-exceed}") boolean failOnExceed
+    ) {
+        this.enabled = enabled;
+        this.defaultMaxStatements = defaultMaxStatements;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.stop();
+        }
+
+        request.setAttribute(SqlRequestStats.ATTRIBUTE, stats);
+        check(request, stats);
+    }
+
+    private void check(HttpServletRequest request, SqlRequestStats stats) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod method)) {
+            return;
+        }
+
+        String endpoint = method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        int maxStatements = maxStatements(method);
+        Map<String, Integer> suspects = stats.nPlusOneSuspects(nPlusOneThreshold);
+        boolean exceeded = stats.statementCount() > maxStatements;
+
+        if (!exceeded && suspects.isEmpty()) {
+            return;
+        }
+
+        String message = String.format("%s %s: %d statements (orçamento %d), %d entidades e %d coleções carregadas",
+                request.getMethod(), endpoint, stats.statementCount(), maxStatements, stats.entityLoads(), stats.collectionLoads());
+        log.warn("{}; suspeitas de N+1: {}", message, suspects);
+
+        if (exceeded && failOnExceed) {
+            throw new SqlBudgetExceededException(message);
+        }
+    }
+
+    private int maxStatements(HandlerMethod method) {
+        SqlBudget budget = method.getMethodAnnotation(SqlBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(method.getBeanType(), SqlBudget.class);
+        }
+        return budget != null ? budget.maxStatements() : defaultMaxStatements;
+    }
+
+}
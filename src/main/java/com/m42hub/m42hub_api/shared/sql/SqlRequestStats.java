@@ -0,0 +1,65 @@
+package com.m42hub.m42hub_api.shared.sql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Contadores de uma requisição; pertence à thread que a atende, então dispensa sincronização
+public class SqlRequestStats {
+
+    public static final String ATTRIBUTE = SqlRequestStats.class.getName();
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> statements = new LinkedHashMap<>();
+    private int statementCount;
+    private int entityLoads;
+    private int collectionLoads;
+
+    static SqlRequestStats start() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    void statement(String sql) {
+        statementCount++;
+        statements.merge(sql, 1, Integer::sum);
+    }
+
+    void entityLoad() {
+        entityLoads++;
+    }
+
+    void collectionLoad() {
+        collectionLoads++;
+    }
+
+    public int statementCount() {
+        return statementCount;
+    }
+
+    public int entityLoads() {
+        return entityLoads;
+    }
+
+    public int collectionLoads() {
+        return collectionLoads;
+    }
+
+    // O Hibernate gera o mesmo SQL parametrizado a cada carga lazy, então repetição é o sinal de N+1
+    public Map<String, Integer> nPlusOneSuspects(int threshold) {
+        return statements.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.m42hub.m42hub_api.shared.sql;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// Conta o SQL que o Hibernate prepara e as cargas de entidades e coleções da requisição em andamento.
+// Consultas feitas direto pelo JdbcTemplate não passam por aqui.
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer,
+        PostLoadEventListener, InitializeCollectionEventListener, SmartInitializingSingleton {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public SqlStatementCounter(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    // Os listeners só podem ser registrados depois que a SessionFactory existe
+    @Override
+    public void afterSingletonsInstantiated() {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null) {
+            return;
+        }
+
+        EventListenerRegistry registry = factory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, this);
+        registry.appendListeners(EventType.INIT_COLLECTION, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.statement(sql);
+        }
+        return sql;
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.entityLoad();
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.collectionLoad();
+        }
+    }
+
+}
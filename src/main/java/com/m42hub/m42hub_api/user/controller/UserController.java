@@ -1,6 +1,11 @@
 package com.m42hub.m42hub_api.user.controller;
 
+import com.m42hub.m42hub_api.config.ETags;
 import com.m42hub.m42hub_api.config.JWTUserData;
+import com.m42hub.m42hub_api.file.dto.response.ImageUploadJobResponse;
+import com.m42hub.m42hub_api.file.mapper.ImageUploadJobMapper;
+import com.m42hub.m42hub_api.shared.export.ExportFormat;
+import com.m42hub.m42hub_api.shared.export.StreamingExporter;
 import com.m42hub.m42hub_api.user.dto.request.UserInfoRequest;
 import com.m42hub.m42hub_api.user.dto.request.UserPasswordChangeRequest;
 import com.m42hub.m42hub_api.user.dto.request.UserRequest;
@@ -20,7 +25,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -31,6 +38,7 @@ public class UserController {
 
     private final UserService userService;
     private final AuthService authService;
+    private final StreamingExporter streamingExporter;
 
     @GetMapping()
     @PreAuthorize("hasRole('ADMIN') or hasAuthority('user:get_all')")
@@ -41,9 +49,19 @@ public class UserController {
                 .toList());
     }
 
+    @GetMapping(produces = {ExportFormat.NDJSON_VALUE, ExportFormat.CSV_VALUE})
+    @PreAuthorize("hasRole('ADMIN') or hasAuthority('user:get_all')")
+    public ResponseEntity<StreamingResponseBody> export(@RequestHeader(HttpHeaders.ACCEPT) String accept) {
+        return streamingExporter.export(accept, "users", UserResponse.class, userService::exportAll, UserMapper::toUserResponse);
+    }
+
     @GetMapping("/{username}")
     @PreAuthorize("hasRole('ADMIN') or hasAuthority('user:get_by_username')")
-    public ResponseEntity<UserInfoResponse> getByUsername(@PathVariable String username) {
+    public ResponseEntity<UserInfoResponse> getByUsername(@PathVariable String username, WebRequest request) {
+        if (request.checkNotModified(ETags.of(userService.profileVersion(username)))) {
+            return null;
+        }
+
         return userService.findByUsername(username)
                 .map(user -> ResponseEntity.ok(UserMapper.toUserInfoResponse(user)))
                 .orElse(ResponseEntity.notFound().build());
@@ -90,23 +108,23 @@ public class UserController {
 
     @PatchMapping("/profile-pic/{username}")
     @PreAuthorize("hasRole('ADMIN') or hasAuthority('user:change-profile-pic')")
-    public ResponseEntity<UserInfoResponse> changeProfilePic(@PathVariable String username, @RequestParam("file") MultipartFile file) {
+    public ResponseEntity<ImageUploadJobResponse> changeProfilePic(@PathVariable String username, @RequestParam("file") MultipartFile file) {
 
         JWTUserData userData = authService.validateUserAccess(username);
 
         return userService.changeProfilePic(file, userData.id())
-                .map(user -> ResponseEntity.ok(UserMapper.toUserInfoResponse(user)))
+                .map(ImageUploadJobMapper::toAcceptedResponse)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PatchMapping("/profile-banner/{username}")
     @PreAuthorize("hasRole('ADMIN') or hasAuthority('user:change-profile-banner')")
-    public ResponseEntity<UserInfoResponse> changeProfileBanner(@PathVariable String username, @RequestParam("file") MultipartFile file) {
+    public ResponseEntity<ImageUploadJobResponse> changeProfileBanner(@PathVariable String username, @RequestParam("file") MultipartFile file) {
 
         JWTUserData userData = authService.validateUserAccess(username);
 
         return userService.changeProfileBanner(file, userData.id())
-                .map(user -> ResponseEntity.ok(UserMapper.toUserInfoResponse(user)))
+                .map(ImageUploadJobMapper::toAcceptedResponse)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -2,14 +2,20 @@ package com.m42hub.m42hub_api.user.repository;
 
 import com.m42hub.m42hub_api.user.entity.Permission;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
 @Repository
 public interface PermissionRepository extends JpaRepository<Permission, Long> {
 
-    boolean existsByName(String name);
+    @Modifying
+    @Query(value = """
+            INSERT INTO permissions (name)
+            SELECT UNNEST(CAST(:names AS TEXT[]))
+            ON CONFLICT (name) DO NOTHING
+            """, nativeQuery = true)
+    int insertMissing(@Param("names") String[] names);
 
 }
@@ -1,11 +1,20 @@
 package com.m42hub.m42hub_api.user.repository;
 
+import com.m42hub.m42hub_api.shared.export.ExportChunks;
 import com.m42hub.m42hub_api.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -14,5 +23,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findUserByUsername(String username);
 
+    @Query("select u from User u left join fetch u.interestRoles where u.id in :ids")
+    List<User> findAllWithInterestRolesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportChunks.FETCH_SIZE))
+    @Query("select u from User u left join fetch u.systemRole")
+    Stream<User> streamAllForExport();
 
 }
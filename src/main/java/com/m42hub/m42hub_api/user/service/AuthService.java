@@ -3,6 +3,7 @@ package com.m42hub.m42hub_api.user.service;
 import com.m42hub.m42hub_api.config.JWTUserData;
 import com.m42hub.m42hub_api.exceptions.UnauthorizedException;
 import com.m42hub.m42hub_api.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,6 +21,7 @@ public class AuthService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    @Timed(value = "auth.user.load", histogram = true, description = "Carga do usuário no login e quando o token não está no AuthenticationCache")
     @Transactional
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,14 +32,12 @@ public class PermissionService {
         return repository.save(permission);
     }
 
+    // Um único INSERT para todas; em ordem, para instâncias subindo juntas não travarem uma à outra
     @Transactional
-    public void registerPermission(String name) {
-        if (!repository.existsByName(name)) {
-            Permission permission = Permission
-                    .builder()
-                    .name(name)
-                    .build();
-            repository.save(permission);
+    public int registerPermissions(Collection<String> names) {
+        if (names.isEmpty()) {
+            return 0;
         }
+        return repository.insertMissing(names.stream().distinct().sorted().toArray(String[]::new));
     }
 }
@@ -1,5 +1,6 @@
 package com.m42hub.m42hub_api.user.service;
 
+import com.m42hub.m42hub_api.config.AuthenticationCache;
 import com.m42hub.m42hub_api.project.entity.Project;
 import com.m42hub.m42hub_api.project.entity.Role;
 import com.m42hub.m42hub_api.user.entity.Permission;
@@ -20,6 +21,7 @@ public class SystemRoleService {
 
     private final SystemRoleRepository repository;
     private final PermissionService permissionService;
+    private final AuthenticationCache authenticationCache;
 
     @Transactional(readOnly = true)
     public List<SystemRole> findAll() {
@@ -34,7 +36,9 @@ public class SystemRoleService {
     @Transactional
     public SystemRole save(SystemRole systemRole) {
         systemRole.setPermissions(this.findPermissions(systemRole.getPermissions()));
-        return repository.save(systemRole);
+        SystemRole savedSystemRole = repository.save(systemRole);
+        authenticationCache.evictAll();
+        return savedSystemRole;
     }
 
     @Transactional
@@ -52,6 +56,7 @@ public class SystemRoleService {
             systemRole.setPermissions(permissionsFound);
 
             repository.save(systemRole);
+            authenticationCache.evictAll();
             return Optional.of(systemRole);
         }
 
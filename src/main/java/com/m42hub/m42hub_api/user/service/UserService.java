@@ -1,14 +1,24 @@
 package com.m42hub.m42hub_api.user.service;
 
-import com.m42hub.m42hub_api.file.service.ImgBBService;
+import com.m42hub.m42hub_api.config.AuthenticationCache;
+import com.m42hub.m42hub_api.config.IdResolver;
+import com.m42hub.m42hub_api.config.ResourceVersions;
+import com.m42hub.m42hub_api.exceptions.CustomNotFoundException;
+import com.m42hub.m42hub_api.file.entity.ImageUploadJob;
+import com.m42hub.m42hub_api.file.entity.ImageUploadTarget;
+import com.m42hub.m42hub_api.file.service.ImageUploadService;
+import com.m42hub.m42hub_api.file.service.ImageUploadedEvent;
 import com.m42hub.m42hub_api.project.entity.Role;
 import com.m42hub.m42hub_api.project.service.RoleService;
+import com.m42hub.m42hub_api.shared.export.ExportChunks;
 import com.m42hub.m42hub_api.user.dto.request.UserInfoRequest;
 import com.m42hub.m42hub_api.user.dto.request.UserPasswordChangeRequest;
 import com.m42hub.m42hub_api.user.entity.SystemRole;
 import com.m42hub.m42hub_api.user.entity.User;
 import com.m42hub.m42hub_api.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -16,9 +26,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -27,19 +39,53 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final SystemRoleService systemRoleService;
     private final RoleService projectRoleService;
-    private final ImgBBService imgBBService;
+    private final ImageUploadService imageUploadService;
     private final AuthenticationManager authenticationManager;
+    private final AuthenticationCache authenticationCache;
+    private final ResourceVersions resourceVersions;
+    private final EntityManager entityManager;
+
+    private static final String PROFILE_VERSION_PREFIX = "user:";
+    private static final String PROFILES_VERSION_KEY = "users";
 
     @Transactional(readOnly = true)
     public List<User> findAll() {
         return repository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<User> consumer) {
+        try (Stream<User> users = repository.streamAllForExport()) {
+            ExportChunks.forEach(users, entityManager, chunk -> chunk.forEach(consumer));
+        }
+    }
+
     @Transactional(readOnly = true)
     public Optional<User> findById(Long id) {
         return repository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public List<User> findAllById(Collection<Long> ids) {
+        return repository.findAllById(ids);
+    }
+
+    // Perfil público depende do próprio usuário e do catálogo de cargos de interesse
+    @Transactional(readOnly = true)
+    public String profileVersion(String username) {
+        return String.join(":", resourceVersions.current(PROFILE_VERSION_PREFIX + username), projectRoleService.revision());
+    }
+
+    // Muda quando qualquer perfil muda, para respostas que embutem dados de vários usuários
+    public String profilesVersion() {
+        return resourceVersions.current(PROFILES_VERSION_KEY);
+    }
+
+    @Transactional(readOnly = true)
+    public List<User> findAllWithInterestRoles(Collection<Long> ids) {
+        return repository.findAllWithInterestRolesByIdIn(ids);
+    }
+
     @Transactional(readOnly = true)
     public Optional<User> findByUsername(String username) {
         return repository.findUserByUsername(username);
@@ -49,7 +95,11 @@ public class UserService {
     public User save(User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         user.setSystemRole(findSystemRole(user.getSystemRole()));
-        return repository.save(user);
+
+        User saved = repository.save(user);
+        incrementProfileVersion(saved);
+
+        return saved;
     }
 
     @Transactional
@@ -71,37 +121,47 @@ public class UserService {
             }
 
             repository.save(user);
+            incrementProfileVersion(user);
             return Optional.of(user);
         }
         return Optional.empty();
     }
 
-    public Optional<User> changeProfilePic(MultipartFile file, Long userId) {
-        Optional<User> optUser = repository.findById(userId);
-        if (optUser.isPresent()) {
-            User user = optUser.get();
+    public Optional<ImageUploadJob> changeProfilePic(MultipartFile file, Long userId) {
+        if (!repository.existsById(userId)) {
+            return Optional.empty();
+        }
 
-            String imageUrl = imgBBService.uploadImage(file);
-            user.setProfilePicUrl(imageUrl);
+        return Optional.of(imageUploadService.submit(file, ImageUploadTarget.PROFILE_PIC, userId, userId));
+    }
 
-            repository.save(user);
-            return Optional.of(user);
+    public Optional<ImageUploadJob> changeProfileBanner(MultipartFile file, Long userId) {
+        if (!repository.existsById(userId)) {
+            return Optional.empty();
         }
-        return Optional.empty();
+
+        return Optional.of(imageUploadService.submit(file, ImageUploadTarget.PROFILE_BANNER, userId, userId));
     }
 
-    public Optional<User> changeProfileBanner(MultipartFile file, Long userId) {
-        Optional<User> optUser = repository.findById(userId);
-        if (optUser.isPresent()) {
-            User user = optUser.get();
+    // A URL só existe depois que o worker de upload termina o envio
+    @EventListener
+    @Transactional
+    public void onImageUploaded(ImageUploadedEvent event) {
+        if (event.target() != ImageUploadTarget.PROFILE_PIC && event.target() != ImageUploadTarget.PROFILE_BANNER) {
+            return;
+        }
 
-            String imageUrl = imgBBService.uploadImage(file);
-            user.setProfileBannerUrl(imageUrl);
+        User user = repository.findById(event.targetId())
+                .orElseThrow(() -> new CustomNotFoundException("Usuário não encontrado"));
 
-            repository.save(user);
-            return Optional.of(user);
+        if (event.target() == ImageUploadTarget.PROFILE_PIC) {
+            user.setProfilePicUrl(event.imageUrl());
+        } else {
+            user.setProfileBannerUrl(event.imageUrl());
         }
-        return Optional.empty();
+
+        repository.save(user);
+        incrementProfileVersion(user);
     }
 
     public Optional<User> changePassword(UserPasswordChangeRequest request, Long userId) {
@@ -115,6 +175,7 @@ public class UserService {
             user.setPassword(passwordEncoder.encode(request.newPassword()));
 
             repository.save(user);
+            authenticationCache.evictUser(userId);
             return Optional.of(user);
         }
         return Optional.empty();
@@ -128,6 +189,7 @@ public class UserService {
             user.setIsActive(active);
 
             repository.save(user);
+            authenticationCache.evictUser(userId);
             return Optional.of(user);
         }
         return Optional.empty();
@@ -140,9 +202,12 @@ public class UserService {
 
     @Transactional
     private List<Role> findProjectRoles(List<Long> projectRoles) {
-        List<Role> projectRolesFound = new ArrayList<>();
-        projectRoles.forEach(roleId -> projectRoleService.findById(roleId).ifPresent(projectRolesFound::add));
-        return projectRolesFound;
+        return IdResolver.resolve(projectRoles, projectRoleService::findAllById, Role::getId, "Cargos não encontrados");
+    }
+
+    private void incrementProfileVersion(User user) {
+        resourceVersions.increment(PROFILE_VERSION_PREFIX + user.getUsername());
+        resourceVersions.increment(PROFILES_VERSION_KEY);
     }
 
 }
@@ -0,0 +1,23 @@
+ALTER TABLE projects
+ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('portuguese', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('portuguese', coalesce(summary, '')), 'B') ||
+    setweight(to_tsvector('portuguese', coalesce(description, '')), 'C')
+) STORED;
+
+ALTER TABLE users
+ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(username, '')), 'A') ||
+    setweight(to_tsvector('portuguese', coalesce(biography, '')), 'C')
+) STORED;
+
+ALTER TABLE contributions
+ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('portuguese', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('portuguese', coalesce(description, '')), 'C')
+) STORED;
+
+-- Sem fastupdate a busca não precisa varrer a lista pendente do GIN; escritas nessas tabelas são raras
+CREATE INDEX idx_projects_search_vector ON projects USING GIN (search_vector) WITH (fastupdate = off);
+CREATE INDEX idx_users_search_vector ON users USING GIN (search_vector) WITH (fastupdate = off);
+CREATE INDEX idx_contributions_search_vector ON contributions USING GIN (search_vector) WITH (fastupdate = off);
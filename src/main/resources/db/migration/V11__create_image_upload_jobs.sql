@@ -0,0 +1,16 @@
+CREATE TABLE image_upload_jobs (
+    image_upload_job_id UUID PRIMARY KEY,
+    target VARCHAR(50) NOT NULL,
+    target_id BIGINT,
+    requested_by BIGINT NOT NULL REFERENCES users(user_id),
+    status VARCHAR(20) NOT NULL,
+    file_name VARCHAR(255),
+    content_type VARCHAR(255),
+    image_url TEXT,
+    error TEXT,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+-- Na subida, jobs interrompidos são retomados a partir do spool
+CREATE INDEX idx_image_upload_jobs_pending ON image_upload_jobs(status) WHERE status IN ('PENDING', 'PROCESSING');
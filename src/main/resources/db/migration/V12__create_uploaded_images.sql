@@ -0,0 +1,10 @@
+CREATE TABLE uploaded_images (
+    uploaded_image_id SERIAL PRIMARY KEY,
+    source_hash VARCHAR(64) NOT NULL,
+    variant VARCHAR(20) NOT NULL,
+    image_url TEXT NOT NULL,
+    source_size BIGINT,
+    stored_size BIGINT,
+    created_at TIMESTAMP,
+    UNIQUE (source_hash, variant)
+);
@@ -0,0 +1,4 @@
+CREATE TABLE resource_versions (
+    resource_key VARCHAR(150) PRIMARY KEY,
+    version BIGINT NOT NULL
+);
@@ -0,0 +1,2 @@
+-- Só o envio mais recente de cada alvo aplica a URL
+CREATE INDEX idx_image_upload_jobs_target ON image_upload_jobs(target, target_id, created_at DESC);
@@ -0,0 +1,37 @@
+-- Doações antigas ficaram sem moeda (o @Builder ignorava o valor padrão da entidade); elas sempre foram em BRL
+UPDATE donations SET currency = 'BRL' WHERE currency IS NULL;
+ALTER TABLE donations ALTER COLUMN currency SET NOT NULL;
+
+CREATE TABLE donation_user_totals (
+    donation_user_total_id SERIAL PRIMARY KEY,
+    user_id INT REFERENCES users(user_id) NOT NULL,
+    currency CHAR(3) NOT NULL,
+    total_amount DECIMAL(16, 4) NOT NULL DEFAULT 0,
+    donation_count INT NOT NULL DEFAULT 0,
+    first_donated_at DATE NOT NULL,
+    last_donated_at DATE NOT NULL,
+    updated_at TIMESTAMP,
+    UNIQUE (user_id, currency)
+);
+
+CREATE INDEX idx_donation_user_totals_ranking ON donation_user_totals(currency, total_amount DESC, user_id);
+
+INSERT INTO donation_user_totals (
+    user_id,
+    currency,
+    total_amount,
+    donation_count,
+    first_donated_at,
+    last_donated_at,
+    updated_at
+)
+SELECT
+    user_id,
+    currency,
+    COALESCE(SUM(amount), 0),
+    COUNT(*),
+    MIN(donated_at),
+    MAX(donated_at),
+    NOW()
+FROM donations
+GROUP BY user_id, currency;
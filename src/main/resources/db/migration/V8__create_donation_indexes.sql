@@ -0,0 +1 @@
+CREATE INDEX idx_donations_donated_at ON donations(donated_at);
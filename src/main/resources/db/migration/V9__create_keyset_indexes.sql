@@ -0,0 +1,2 @@
+CREATE INDEX idx_donations_amount_id ON donations(amount, donation_id);
+CREATE INDEX idx_contributions_approved_at_id ON contributions(approved_at, contribution_id);
@@ -0,0 +1,157 @@
+package com.m42hub.m42hub_api.benchmarks;
+
+import com.m42hub.m42hub_api.contribution.entity.Contribution;
+import com.m42hub.m42hub_api.contribution.dto.UserContributions;
+import com.m42hub.m42hub_api.project.entity.*;
+import com.m42hub.m42hub_api.services.util.TestUtils;
+import com.m42hub.m42hub_api.user.entity.Permission;
+import com.m42hub.m42hub_api.user.entity.SystemRole;
+import com.m42hub.m42hub_api.user.entity.User;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+public class BenchmarkFixtures {
+
+    public static SystemRole createSystemRole(int permissions) {
+        SystemRole systemRole = TestUtils.createRole(1L, "USER");
+
+        List<Permission> rolePermissions = new ArrayList<>();
+        for (long i = 1; i <= permissions; i++) {
+            rolePermissions.add(TestUtils.createPermission(i, "resource" + i + ":action", "Permissão " + i));
+        }
+        systemRole.setPermissions(rolePermissions);
+
+        return systemRole;
+    }
+
+    public static User createUser(long id, SystemRole systemRole, int interestRoles) {
+        User user = TestUtils.createUser(id, "user" + id, "First" + id, "Last" + id, "user" + id + "@example.com", systemRole);
+
+        List<Role> roles = new ArrayList<>();
+        for (long i = 1; i <= interestRoles; i++) {
+            roles.add(TestUtils.createRole(i, "Role " + i, "Descrição " + i));
+        }
+        user.setInterestRoles(roles);
+
+        return user;
+    }
+
+    public static Project createProject(long id, int collectionSize) {
+        Status status = TestUtils.createStatus(1L, "Em andamento", "Projeto em andamento");
+        Complexity complexity = TestUtils.createComplexity(2L, "Média", "#FFAA00", "Complexidade média");
+        MemberStatus approved = TestUtils.createMemberStatus(2L, "Aprovado", "Membro aprovado");
+        SystemRole systemRole = createSystemRole(0);
+
+        List<Tool> tools = new ArrayList<>();
+        List<Topic> topics = new ArrayList<>();
+        List<Role> roles = new ArrayList<>();
+        for (long i = 1; i <= collectionSize; i++) {
+            tools.add(TestUtils.createTool(i, "Tool " + i, "#000000", "Ferramenta " + i));
+            topics.add(TestUtils.createTopic(i, "Topic " + i, "#FFFFFF", "Tópico " + i));
+            roles.add(TestUtils.createRole(i, "Role " + i, "Função " + i));
+        }
+
+        Project project = TestUtils.createProject(id, "Project " + id, "Resumo", "Descrição", status, complexity, null, new Date(), null, tools, topics, roles, null);
+        project.setCreatedAt(LocalDateTime.now());
+
+        List<Member> members = new ArrayList<>();
+        for (long i = 1; i <= collectionSize; i++) {
+            User user = createUser(id * 1000 + i, systemRole, 2);
+            members.add(TestUtils.createMember(i, i == 1, project, roles.get(0), user, approved, null, null));
+        }
+        project.setMembers(members);
+
+        return project;
+    }
+
+    public static List<Project> createProjects(int size, int collectionSize) {
+        List<Project> projects = new ArrayList<>();
+        for (long i = 1; i <= size; i++) {
+            projects.add(createProject(i, collectionSize));
+        }
+        return projects;
+    }
+
+    public static List<UserContributions> createUserContributions(int users, int contributionsPerUser) {
+        SystemRole systemRole = createSystemRole(0);
+        com.m42hub.m42hub_api.contribution.entity.Status status = com.m42hub.m42hub_api.contribution.entity.Status.builder().id(2L).name("Aprovada").build();
+        com.m42hub.m42hub_api.contribution.entity.Type type = com.m42hub.m42hub_api.contribution.entity.Type.builder().id(1L).name("Código").build();
+
+        List<UserContributions> ranking = new ArrayList<>();
+        for (long u = 1; u <= users; u++) {
+            User user = createUser(u, systemRole, 2);
+
+            List<Contribution> contributions = new ArrayList<>();
+            for (int c = 0; c < contributionsPerUser; c++) {
+                contributions.add(Contribution.builder()
+                        .id(UUID.randomUUID())
+                        .name("Contribuição " + c)
+                        .description("Descrição")
+                        .status(status)
+                        .type(type)
+                        .submittedAt(new Date())
+                        .approvedAt(new Date())
+                        .createdAt(LocalDateTime.now())
+                        .user(user)
+                        .build());
+            }
+
+            ranking.add(new UserContributions(user, (long) contributionsPerUser, contributions));
+        }
+        return ranking;
+    }
+
+    // Gradiente com ruído codificado em JPEG de alta qualidade, próximo do que sai de uma câmera de celular
+    public static byte[] createPhoto(int width, int height, long seed) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, new Color(30, 80, 160), width, height, new Color(240, 170, 60)));
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+
+        Random random = new Random(seed);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb = image.getRGB(x, y);
+                int noise = random.nextInt(25) - 12;
+                int r = Math.clamp(((rgb >> 16) & 0xFF) + noise, 0, 255);
+                int g = Math.clamp(((rgb >> 8) & 0xFF) + noise, 0, 255);
+                int b = Math.clamp((rgb & 0xFF) + noise, 0, 255);
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(0.95f);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = new MemoryCacheImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+}
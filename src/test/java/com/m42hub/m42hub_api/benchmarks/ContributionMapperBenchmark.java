@@ -0,0 +1,37 @@
+package com.m42hub.m42hub_api.benchmarks;
+
+import com.m42hub.m42hub_api.contribution.dto.response.ContributionsByUserResponse;
+import com.m42hub.m42hub_api.contribution.mapper.ContributionMapper;
+import com.m42hub.m42hub_api.contribution.dto.UserContributions;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContributionMapperBenchmark {
+
+    @Param({"10", "100"})
+    private int users;
+
+    @Param({"10"})
+    private int contributionsPerUser;
+
+    private List<UserContributions> ranking;
+
+    @Setup
+    public void setup() {
+        ranking = BenchmarkFixtures.createUserContributions(users, contributionsPerUser);
+    }
+
+    @Benchmark
+    public List<ContributionsByUserResponse> toContributionsByUserResponse() {
+        return ContributionMapper.toContributionsByUserResponse(ranking);
+    }
+
+}
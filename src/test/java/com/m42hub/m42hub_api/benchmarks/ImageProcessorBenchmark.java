@@ -0,0 +1,58 @@
+package com.m42hub.m42hub_api.benchmarks;
+
+import com.m42hub.m42hub_api.file.entity.ImageVariant;
+import com.m42hub.m42hub_api.file.service.ImageProcessor;
+import com.m42hub.m42hub_api.file.service.ProcessedImage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageProcessorBenchmark {
+
+    // Corpus sintético: foto de celular, banner em Full HD e avatar já no tamanho final
+    @Param({"4032x3024", "1920x1080", "512x512"})
+    private String source;
+
+    @Param({"AVATAR", "BANNER"})
+    private ImageVariant variant;
+
+    private ImageProcessor imageProcessor;
+    private byte[] content;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class UploadBytes {
+        public long sourceBytes;
+        public long uploadedBytes;
+    }
+
+    @Setup
+    public void setup() {
+        imageProcessor = new ImageProcessor(512, 512, 1920, 1080, 2560, 2560, 0.85f, 50_000_000L);
+
+        String[] dimensions = source.split("x");
+        content = BenchmarkFixtures.createPhoto(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]), 42);
+    }
+
+    // Primeiro envio: redução e reencode; a razão uploadedBytes/sourceBytes mede o tráfego economizado
+    @Benchmark
+    public ProcessedImage process(UploadBytes bytes) {
+        ProcessedImage image = imageProcessor.process(content, "image/jpeg", "photo.jpg", variant);
+        bytes.sourceBytes += content.length;
+        bytes.uploadedBytes += image.content().length;
+        return image;
+    }
+
+    // Reenvio do mesmo arquivo: só o hash é calculado antes de consultar o índice
+    @Benchmark
+    public String hash() {
+        return ImageProcessor.hash(content);
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.m42hub.m42hub_api.benchmarks;
+
+import com.m42hub.m42hub_api.project.dto.response.PageResponse;
+import com.m42hub.m42hub_api.project.dto.response.ProjectListItemResponse;
+import com.m42hub.m42hub_api.project.entity.Project;
+import com.m42hub.m42hub_api.project.mapper.PageMapper;
+import com.m42hub.m42hub_api.project.mapper.ProjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageMapperBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    @Param({"5"})
+    private int collectionSize;
+
+    private Page<Project> page;
+
+    @Setup
+    public void setup() {
+        page = new PageImpl<>(BenchmarkFixtures.createProjects(pageSize, collectionSize), PageRequest.of(0, pageSize), pageSize * 10L);
+    }
+
+    @Benchmark
+    public PageResponse<ProjectListItemResponse> toPagedResponse() {
+        return PageMapper.toPagedResponse(page, ProjectMapper::toProjectListResponse);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.m42hub.m42hub_api.benchmarks;
+
+import com.m42hub.m42hub_api.project.dto.response.ProjectListItemResponse;
+import com.m42hub.m42hub_api.project.dto.response.ProjectResponse;
+import com.m42hub.m42hub_api.project.entity.Project;
+import com.m42hub.m42hub_api.project.mapper.ProjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectMapperBenchmark {
+
+    @Param({"5", "50"})
+    private int collectionSize;
+
+    private Project project;
+
+    @Setup
+    public void setup() {
+        project = BenchmarkFixtures.createProject(1L, collectionSize);
+    }
+
+    @Benchmark
+    public ProjectResponse toProjectResponse() {
+        return ProjectMapper.toProjectResponse(project);
+    }
+
+    @Benchmark
+    public ProjectListItemResponse toProjectListResponse() {
+        return ProjectMapper.toProjectListResponse(project);
+    }
+
+}
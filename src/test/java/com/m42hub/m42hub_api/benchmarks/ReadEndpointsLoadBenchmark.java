@@ -0,0 +1,63 @@
+package com.m42hub.m42hub_api.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Teste de carga contra uma instância já rodando (LOADTEST_BASE_URL, padrão http://localhost:8080).
+// Para comparar os modos, rode uma vez com VIRTUAL_THREADS=false e outra com VIRTUAL_THREADS=true no servidor.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Fork(1)
+@Threads(400)
+public class ReadEndpointsLoadBenchmark {
+
+    @Param({
+            "/api/v1/project/search?page=0&limit=10",
+            "/api/v1/project/1",
+            "/api/v1/project/status",
+            "/api/v1/search?q=proj"
+    })
+    private String endpoint;
+
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup
+    public void setup() throws IOException, InterruptedException {
+        String baseUrl = System.getenv().getOrDefault("LOADTEST_BASE_URL", "http://localhost:8080");
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 200) {
+            throw new IllegalStateException("GET " + endpoint + " respondeu " + status + "; a instância está rodando em " + baseUrl + "?");
+        }
+    }
+
+    @Benchmark
+    public int get() throws IOException, InterruptedException {
+        int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 200) {
+            throw new IllegalStateException("GET " + endpoint + " respondeu " + status);
+        }
+        return status;
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.m42hub.m42hub_api.benchmarks;
+
+import com.m42hub.m42hub_api.config.AuthenticationCache;
+import com.m42hub.m42hub_api.config.SecurityFilter;
+import com.m42hub.m42hub_api.config.TokenService;
+import com.m42hub.m42hub_api.user.entity.User;
+import com.m42hub.m42hub_api.user.repository.UserRepository;
+import com.m42hub.m42hub_api.user.service.AuthService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityFilterBenchmark {
+
+    @Param({"0", "10000"})
+    private long cacheSize;
+
+    @Param({"5", "50"})
+    private int permissions;
+
+    private SecurityFilter securityFilter;
+    private Cookie sessionCookie;
+
+    @Setup
+    public void setup() {
+        TokenService tokenService = new TokenService("benchmark-secret", "current", List.of(), false);
+        User user = BenchmarkFixtures.createUser(1L, BenchmarkFixtures.createSystemRole(permissions), 0);
+
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+
+        AuthenticationCache authenticationCache = new AuthenticationCache(Duration.ofMinutes(5), cacheSize);
+        securityFilter = new SecurityFilter(tokenService, new AuthService(userRepository), authenticationCache);
+        sessionCookie = new Cookie("session", tokenService.generateToken(user));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/auth/validate");
+        request.setCookies(sessionCookie);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain filterChain = new MockFilterChain();
+
+        securityFilter.doFilter(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+
+        return response;
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.m42hub.m42hub_api.benchmarks;
+
+import com.m42hub.m42hub_api.M42hubApiApplication;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+// Partida a frio da aplicação: cada fork é uma JVM nova que sobe o contexto uma única vez.
+// Usa o banco das variáveis de ambiente (DATABASE_URL, DATABASE_USERNAME, DATABASE_PASSWORD, SECRET, IMGBB_UPLOAD_URL).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartupBenchmark {
+
+    // Statements que o Hibernate preparou durante a subida (o Flyway não entra na conta)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class BootQueries {
+        public long statements;
+    }
+
+    @Benchmark
+    public void start(BootQueries queries) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(M42hubApiApplication.class)
+                .properties("server.port=0", "management.server.port=0")
+                .run()) {
+            queries.statements += context.getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class)
+                    .getStatistics()
+                    .getPrepareStatementCount();
+        }
+    }
+
+}
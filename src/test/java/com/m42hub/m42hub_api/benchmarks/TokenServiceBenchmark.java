@@ -0,0 +1,58 @@
+package com.m42hub.m42hub_api.benchmarks;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.m42hub.m42hub_api.config.JWTUserData;
+import com.m42hub.m42hub_api.config.TokenService;
+import com.m42hub.m42hub_api.services.util.TestUtils;
+import com.m42hub.m42hub_api.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret";
+
+    private TokenService tokenService;
+    private String token;
+
+    @Setup
+    public void setup() {
+        tokenService = new TokenService(SECRET, "current", List.of("previous:old-secret"), false);
+
+        User user = TestUtils.createUser(1L, "john.doe", "John", "Doe", "john@example.com", TestUtils.createRole(2L, "USER"));
+        token = tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public Optional<JWTUserData> verifyWithCachedVerifier() {
+        return tokenService.verifyToken(token);
+    }
+
+    @Benchmark
+    public Optional<JWTUserData> verifyWithPerCallVerifier() {
+        Algorithm algorithm = Algorithm.HMAC256(SECRET);
+
+        DecodedJWT jwt = JWT.require(algorithm)
+                .build()
+                .verify(token);
+
+        return Optional.of(JWTUserData.builder()
+                .username(jwt.getSubject())
+                .id(jwt.getClaim("id").asLong())
+                .role(jwt.getClaim("role").asString())
+                .expiresAt(jwt.getExpiresAtAsInstant())
+                .build());
+    }
+
+}
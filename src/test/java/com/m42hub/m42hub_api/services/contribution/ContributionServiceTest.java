@@ -0,0 +1,74 @@
+package com.m42hub.m42hub_api.services.contribution;
+
+import com.m42hub.m42hub_api.contribution.repository.ContributionRepository;
+import com.m42hub.m42hub_api.contribution.service.ContributionService;
+import com.m42hub.m42hub_api.contribution.service.StatusService;
+import com.m42hub.m42hub_api.contribution.service.TypeService;
+import com.m42hub.m42hub_api.exceptions.BadRequestException;
+import com.m42hub.m42hub_api.shared.pagination.PageTotalService;
+import com.m42hub.m42hub_api.user.service.UserService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ContributionServiceTest {
+
+    @Mock
+    private ContributionRepository repository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private StatusService statusService;
+
+    @Mock
+    private TypeService typeService;
+
+    @Mock
+    private PageTotalService pageTotalService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private ContributionService contributionService;
+
+    private AutoCloseable mocks;
+
+    @BeforeEach
+    public void setUp() {
+        mocks = MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void shouldRejectRanking_whenContributionsPerUserIsNotPositive() {
+        // WHEN / THEN
+        assertThatThrownBy(() -> contributionService.findRankingByParams(50, 0, "DESC",
+                null, null, null, null, null, null, null))
+                .isInstanceOf(BadRequestException.class);
+        Mockito.verifyNoInteractions(repository);
+    }
+
+    @Test
+    public void shouldRejectRanking_whenLimitIsNotPositive() {
+        // WHEN / THEN
+        assertThatThrownBy(() -> contributionService.findRankingByParams(-1, 10, "DESC",
+                null, null, null, null, null, null, null))
+                .isInstanceOf(BadRequestException.class);
+        Mockito.verifyNoInteractions(repository);
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.m42hub.m42hub_api.services.file;
+
+import com.m42hub.m42hub_api.file.service.ImageProcessor;
+import com.m42hub.m42hub_api.file.service.ProcessedImage;
+import com.m42hub.m42hub_api.file.storage.FileSystemImageStorage;
+import com.m42hub.m42hub_api.file.storage.StoredImageFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileSystemImageStorageTest {
+
+    private static final byte[] PNG_BYTES = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 1, 2, 3, 4};
+
+    @TempDir
+    private Path storageDir;
+
+    private FileSystemImageStorage imageStorage;
+
+    @BeforeEach
+    public void setUp() {
+        imageStorage = new FileSystemImageStorage(storageDir, "https://api.m42hub.com/");
+    }
+
+    @Test
+    public void shouldStoreImageUnderContentHash() throws IOException {
+        // GIVEN
+        String hash = ImageProcessor.hash(PNG_BYTES);
+
+        // WHEN
+        String url = imageStorage.store(new ProcessedImage(PNG_BYTES, "image/png", "avatar.png"));
+
+        // THEN
+        assertThat(url).isEqualTo("https://api.m42hub.com/api/v1/image/" + hash);
+        Path stored = storageDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+        assertThat(Files.readAllBytes(stored)).isEqualTo(PNG_BYTES);
+    }
+
+    @Test
+    public void shouldKeepSingleFile_whenSameContentIsStoredTwice() throws IOException {
+        // WHEN
+        String first = imageStorage.store(new ProcessedImage(PNG_BYTES, "image/png", "a.png"));
+        String second = imageStorage.store(new ProcessedImage(PNG_BYTES.clone(), "image/png", "b.png"));
+
+        // THEN
+        assertThat(second).isEqualTo(first);
+        try (Stream<Path> files = Files.walk(storageDir)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void shouldFindStoredImageWithSniffedMediaType() {
+        // GIVEN
+        String hash = ImageProcessor.hash(PNG_BYTES);
+        imageStorage.store(new ProcessedImage(PNG_BYTES, "image/png", "avatar.png"));
+
+        // WHEN
+        Optional<StoredImageFile> file = imageStorage.find(hash);
+
+        // THEN
+        assertThat(file).isPresent();
+        assertThat(file.get().size()).isEqualTo(PNG_BYTES.length);
+        assertThat(file.get().mediaType()).isEqualTo(MediaType.IMAGE_PNG);
+    }
+
+    @Test
+    public void shouldNotFind_whenHashIsUnknownOrMalformed() {
+        // WHEN
+        Optional<StoredImageFile> unknown = imageStorage.find("0".repeat(64));
+        Optional<StoredImageFile> traversal = imageStorage.find("../../etc/passwd");
+
+        // THEN
+        assertThat(unknown).isEmpty();
+        assertThat(traversal).isEmpty();
+    }
+
+}
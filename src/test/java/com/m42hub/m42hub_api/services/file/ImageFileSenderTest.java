@@ -0,0 +1,118 @@
+package com.m42hub.m42hub_api.services.file;
+
+import com.m42hub.m42hub_api.file.storage.ImageFileSender;
+import com.m42hub.m42hub_api.file.storage.StoredImageFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImageFileSenderTest {
+
+    private static final String HASH = "a".repeat(64);
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    private Path storageDir;
+
+    private final ImageFileSender imageFileSender = new ImageFileSender();
+    private StoredImageFile file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Path path = Files.write(storageDir.resolve(HASH), CONTENT);
+        file = new StoredImageFile(HASH, path, CONTENT.length, MediaType.IMAGE_PNG);
+    }
+
+    @Test
+    public void shouldSendWholeFileWithImmutableCacheHeaders() throws IOException {
+        // GIVEN
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/image/" + HASH);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // WHEN
+        imageFileSender.send(file, request, response);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + HASH + "\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable", "max-age=31536000");
+    }
+
+    @Test
+    public void shouldSendPartialContent_whenRangeIsRequested() throws IOException {
+        // GIVEN
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/image/" + HASH);
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // WHEN
+        imageFileSender.send(file, request, response);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+    }
+
+    @Test
+    public void shouldRejectRange_whenItStartsPastTheEnd() throws IOException {
+        // GIVEN
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/image/" + HASH);
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // WHEN
+        imageFileSender.send(file, request, response);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    public void shouldAnswerNotModified_whenETagMatches() throws IOException {
+        // GIVEN
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/image/" + HASH);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + HASH + "\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // WHEN
+        imageFileSender.send(file, request, response);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    public void shouldDelegateToSendfile_whenContainerSupportsIt() throws IOException {
+        // GIVEN
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/image/" + HASH);
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // WHEN
+        imageFileSender.send(file, request, response);
+
+        // THEN
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(7L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(10L);
+        assertThat(response.getContentLengthLong()).isEqualTo(3);
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.m42hub.m42hub_api.services.file;
+
+import com.m42hub.m42hub_api.file.entity.ImageVariant;
+import com.m42hub.m42hub_api.file.entity.UploadedImage;
+import com.m42hub.m42hub_api.file.repository.UploadedImageRepository;
+import com.m42hub.m42hub_api.file.service.ImageProcessingService;
+import com.m42hub.m42hub_api.file.service.ImageProcessor;
+import com.m42hub.m42hub_api.file.service.ProcessedImage;
+import com.m42hub.m42hub_api.file.storage.ImageStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ImageProcessingServiceTest {
+
+    private static final byte[] IMAGE_BYTES = "fake-png-bytes".getBytes(StandardCharsets.UTF_8);
+    private static final String SOURCE_HASH = ImageProcessor.hash(IMAGE_BYTES);
+
+    @Mock
+    private UploadedImageRepository uploadedImageRepository;
+
+    @Mock
+    private ImageStorage imageStorage;
+
+    private ImageProcessingService imageProcessingService;
+
+    private AutoCloseable mocks;
+
+    @BeforeEach
+    public void setUp() {
+        mocks = MockitoAnnotations.openMocks(this);
+
+        ImageProcessor imageProcessor = new ImageProcessor(512, 512, 1920, 1080, 2560, 2560, 0.85f, 50_000_000L);
+        imageProcessingService = new ImageProcessingService(uploadedImageRepository, imageProcessor, imageStorage);
+        Mockito.when(imageStorage.store(Mockito.any(ProcessedImage.class))).thenReturn("https://i.ibb.co/stub/mine.png");
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void shouldReturnRegisteredUrl_whenAnotherWorkerIndexedSameImage() {
+        // GIVEN
+        UploadedImage winner = UploadedImage.builder()
+                .sourceHash(SOURCE_HASH)
+                .variant(ImageVariant.AVATAR)
+                .imageUrl("https://i.ibb.co/stub/winner.png")
+                .build();
+        Mockito.when(uploadedImageRepository.findBySourceHashAndVariant(SOURCE_HASH, ImageVariant.AVATAR))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(winner));
+        Mockito.when(uploadedImageRepository.insertIfAbsent(Mockito.eq(SOURCE_HASH), Mockito.eq("AVATAR"),
+                Mockito.anyString(), Mockito.any(), Mockito.any())).thenReturn(0);
+
+        // WHEN
+        String imageUrl = imageProcessingService.upload(IMAGE_BYTES, "image/png", "avatar.png", ImageVariant.AVATAR);
+
+        // THEN
+        assertThat(imageUrl).isEqualTo("https://i.ibb.co/stub/winner.png");
+    }
+
+    @Test
+    public void shouldPropagate_whenInsertViolatesOtherConstraint() {
+        // GIVEN
+        Mockito.when(uploadedImageRepository.findBySourceHashAndVariant(SOURCE_HASH, ImageVariant.AVATAR))
+                .thenReturn(Optional.empty());
+        Mockito.when(uploadedImageRepository.insertIfAbsent(Mockito.anyString(), Mockito.anyString(),
+                Mockito.anyString(), Mockito.any(), Mockito.any()))
+                .thenThrow(new DataIntegrityViolationException("null value in column \"image_url\""));
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> imageProcessingService.upload(IMAGE_BYTES, "image/png", "avatar.png", ImageVariant.AVATAR))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+}
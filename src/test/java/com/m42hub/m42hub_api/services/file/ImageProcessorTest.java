@@ -0,0 +1,195 @@
+package com.m42hub.m42hub_api.services.file;
+
+import com.m42hub.m42hub_api.exceptions.BadRequestException;
+import com.m42hub.m42hub_api.file.entity.ImageVariant;
+import com.m42hub.m42hub_api.file.service.ImageProcessor;
+import com.m42hub.m42hub_api.file.service.ProcessedImage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ImageProcessorTest {
+
+    private static final int AVATAR_SIZE = 512;
+    private static final int BANNER_WIDTH = 1920;
+    private static final int BANNER_HEIGHT = 1080;
+
+    private ImageProcessor imageProcessor;
+
+    @BeforeEach
+    public void setUp() {
+        imageProcessor = new ImageProcessor(AVATAR_SIZE, AVATAR_SIZE, BANNER_WIDTH, BANNER_HEIGHT, 2560, 2560, 0.85f, 50_000_000L);
+    }
+
+    @Test
+    public void shouldDownscaleToAvatarBounds_whenImageIsOversized() throws IOException {
+        // GIVEN
+        byte[] content = png(2000, 1500, false);
+
+        // WHEN
+        ProcessedImage result = imageProcessor.process(content, "image/png", "avatar.png", ImageVariant.AVATAR);
+
+        // THEN
+        BufferedImage decoded = decode(result.content());
+        assertThat(decoded.getWidth()).isEqualTo(AVATAR_SIZE);
+        assertThat(decoded.getHeight()).isEqualTo(384);
+        assertThat(result.contentType()).isEqualTo("image/jpeg");
+        assertThat(result.fileName()).isEqualTo("avatar.jpg");
+        assertThat(result.content().length).isLessThan(content.length);
+    }
+
+    @Test
+    public void shouldKeepPngWithTransparency_whenDownscaling() throws IOException {
+        // GIVEN
+        byte[] content = png(3840, 1080, true);
+
+        // WHEN
+        ProcessedImage result = imageProcessor.process(content, "image/png", "banner.png", ImageVariant.BANNER);
+
+        // THEN
+        BufferedImage decoded = decode(result.content());
+        assertThat(decoded.getWidth()).isEqualTo(BANNER_WIDTH);
+        assertThat(decoded.getHeight()).isEqualTo(540);
+        assertThat(decoded.getColorModel().hasAlpha()).isTrue();
+        assertThat(result.contentType()).isEqualTo("image/png");
+    }
+
+    @Test
+    public void shouldKeepOriginal_whenImageFitsAndReencodeIsNotSmaller() throws IOException {
+        // GIVEN
+        byte[] content = png(64, 64, false);
+
+        // WHEN
+        ProcessedImage result = imageProcessor.process(content, "image/png", "small.png", ImageVariant.AVATAR);
+
+        // THEN
+        assertThat(result.content()).isSameAs(content);
+        assertThat(result.contentType()).isEqualTo("image/png");
+    }
+
+    @Test
+    public void shouldKeepOriginal_whenContentIsNotDecodable() {
+        // GIVEN
+        byte[] content = "not-an-image".getBytes(StandardCharsets.UTF_8);
+
+        // WHEN
+        ProcessedImage result = imageProcessor.process(content, "image/webp", "photo.webp", ImageVariant.BANNER);
+
+        // THEN
+        assertThat(result.content()).isSameAs(content);
+        assertThat(result.fileName()).isEqualTo("photo.webp");
+    }
+
+    @Test
+    public void shouldRotateBeforeScaling_whenJpegHasExifOrientation6() throws IOException {
+        // GIVEN
+        byte[] content = withExifOrientation(jpeg(4000, 2000), 6);
+
+        // WHEN
+        ProcessedImage result = imageProcessor.process(content, "image/jpeg", "photo.jpg", ImageVariant.AVATAR);
+
+        // THEN
+        BufferedImage decoded = decode(result.content());
+        assertThat(decoded.getWidth()).isEqualTo(256);
+        assertThat(decoded.getHeight()).isEqualTo(AVATAR_SIZE);
+        assertThat(new Color(decoded.getRGB(128, 10)).getRed()).isGreaterThan(200);
+        assertThat(new Color(decoded.getRGB(128, AVATAR_SIZE - 10)).getBlue()).isGreaterThan(200);
+    }
+
+    @Test
+    public void shouldRejectImage_whenDeclaredPixelsExceedLimit() throws IOException {
+        // GIVEN
+        byte[] content = withPngDimensions(png(16, 16, false), 30000, 30000);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> imageProcessor.process(content, "image/png", "bomb.png", ImageVariant.IMAGE))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    public void shouldHashContentDeterministically() {
+        // GIVEN
+        byte[] content = "same-bytes".getBytes(StandardCharsets.UTF_8);
+
+        // WHEN
+        String first = ImageProcessor.hash(content);
+        String second = ImageProcessor.hash(content.clone());
+
+        // THEN
+        assertThat(first).hasSize(64).isEqualTo(second);
+        assertThat(ImageProcessor.hash("other-bytes".getBytes(StandardCharsets.UTF_8))).isNotEqualTo(first);
+    }
+
+    private static byte[] png(int width, int height, boolean alpha) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, new Color(20, 90, 200, alpha ? 120 : 255), width, height, Color.ORANGE));
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    // Metade esquerda vermelha e direita azul: girada 90° no sentido horário, o vermelho fica em cima
+    private static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(width / 2, 0, width - width / 2, height);
+        graphics.dispose();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", output);
+        return output.toByteArray();
+    }
+
+    // Insere depois do APP0 um APP1 com um TIFF big-endian de uma única entrada: Orientation (0x0112, SHORT)
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        ByteBuffer exif = ByteBuffer.allocate(36);
+        exif.put(new byte[]{(byte) 0xFF, (byte) 0xE1}).putShort((short) 34);
+        exif.put("Exif\0\0".getBytes(StandardCharsets.ISO_8859_1));
+        exif.put("MM".getBytes(StandardCharsets.ISO_8859_1)).putShort((short) 42).putInt(8);
+        exif.putShort((short) 1);
+        exif.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        exif.putInt(0);
+
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(jpeg, 0, app0End);
+        output.write(exif.array(), 0, exif.position());
+        output.write(jpeg, app0End, jpeg.length - app0End);
+        return output.toByteArray();
+    }
+
+    // Reescreve largura e altura no IHDR (e o CRC do chunk) sem mudar os dados da imagem
+    private static byte[] withPngDimensions(byte[] png, int width, int height) {
+        byte[] patched = png.clone();
+        ByteBuffer.wrap(patched, 16, 8).putInt(width).putInt(height);
+
+        CRC32 crc = new CRC32();
+        crc.update(patched, 12, 17);
+        ByteBuffer.wrap(patched, 29, 4).putInt((int) crc.getValue());
+        return patched;
+    }
+
+    private static BufferedImage decode(byte[] content) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(content));
+    }
+
+}
@@ -0,0 +1,328 @@
+package com.m42hub.m42hub_api.services.file;
+
+import com.m42hub.m42hub_api.exceptions.ServiceUnavailableException;
+import com.m42hub.m42hub_api.file.client.ImgBBClient;
+import com.m42hub.m42hub_api.file.client.ImgBBResilience;
+import com.m42hub.m42hub_api.file.entity.ImageUploadJob;
+import com.m42hub.m42hub_api.file.entity.ImageUploadStatus;
+import com.m42hub.m42hub_api.file.entity.ImageUploadTarget;
+import com.m42hub.m42hub_api.file.entity.ImageVariant;
+import com.m42hub.m42hub_api.file.entity.UploadedImage;
+import com.m42hub.m42hub_api.file.repository.ImageUploadJobRepository;
+import com.m42hub.m42hub_api.file.repository.UploadedImageRepository;
+import com.m42hub.m42hub_api.file.service.ImageProcessingService;
+import com.m42hub.m42hub_api.file.service.ImageProcessor;
+import com.m42hub.m42hub_api.file.service.ImageSpool;
+import com.m42hub.m42hub_api.file.service.ImageUploadService;
+import com.m42hub.m42hub_api.file.service.ImageUploadedEvent;
+import com.m42hub.m42hub_api.file.service.ImgBBService;
+import com.m42hub.m42hub_api.file.storage.ImgBBImageStorage;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.form.spring.SpringFormEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ImageUploadServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String IMAGE_URL = "https://i.ibb.co/stub/avatar.png";
+    private static final byte[] IMAGE_BYTES = "fake-png-bytes".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private ImageUploadJobRepository imageUploadJobRepository;
+
+    @Mock
+    private UploadedImageRepository uploadedImageRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    private Path spoolDir;
+
+    private AutoCloseable mocks;
+
+    private HttpServer imgBBStub;
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+    private final AtomicInteger uploads = new AtomicInteger();
+    private final Map<String, UploadedImage> uploadedImages = new ConcurrentHashMap<>();
+    private final Map<UUID, ImageUploadJob> jobs = new ConcurrentHashMap<>();
+    private CountDownLatch imgBBRelease = new CountDownLatch(0);
+    private int queueCapacity = 10;
+
+    private ImageUploadService imageUploadService;
+
+    @BeforeEach
+    public void setUp() {
+        mocks = MockitoAnnotations.openMocks(this);
+
+        Mockito.when(imageUploadJobRepository.save(Mockito.any(ImageUploadJob.class))).thenAnswer(invocation -> {
+            ImageUploadJob job = invocation.getArgument(0);
+            if (job.getId() == null) {
+                job.setId(UUID.randomUUID());
+                job.setCreatedAt(LocalDateTime.now().plusNanos(jobs.size()));
+            }
+            jobs.put(job.getId(), job);
+            return job;
+        });
+        Mockito.when(imageUploadJobRepository.findById(Mockito.any(UUID.class)))
+                .thenAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<UUID>getArgument(0))));
+        Mockito.when(imageUploadJobRepository.findFirstByTargetAndTargetIdOrderByCreatedAtDesc(Mockito.any(ImageUploadTarget.class), Mockito.anyLong()))
+                .thenAnswer(invocation -> jobs.values().stream()
+                        .filter(job -> job.getTarget() == invocation.getArgument(0) && invocation.getArgument(1).equals(job.getTargetId()))
+                        .max(Comparator.comparing(ImageUploadJob::getCreatedAt)));
+        Mockito.when(imageUploadJobRepository.markFailed(Mockito.any(UUID.class), Mockito.any())).thenAnswer(invocation -> {
+            ImageUploadJob job = jobs.get(invocation.<UUID>getArgument(0));
+            job.setStatus(ImageUploadStatus.FAILED);
+            job.setError(invocation.getArgument(1));
+            return 1;
+        });
+
+        Mockito.when(uploadedImageRepository.insertIfAbsent(Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    UploadedImage image = UploadedImage.builder()
+                            .sourceHash(invocation.getArgument(0))
+                            .variant(ImageVariant.valueOf(invocation.getArgument(1)))
+                            .imageUrl(invocation.getArgument(2))
+                            .build();
+                    return uploadedImages.putIfAbsent(image.getSourceHash() + image.getVariant(), image) == null ? 1 : 0;
+                });
+        Mockito.when(uploadedImageRepository.findBySourceHashAndVariant(Mockito.anyString(), Mockito.any(ImageVariant.class)))
+                .thenAnswer(invocation -> Optional.ofNullable(uploadedImages.get(invocation.<String>getArgument(0) + invocation.getArgument(1))));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (imgBBStub != null) {
+            imgBBStub.stop(0);
+        }
+        mocks.close();
+    }
+
+    @Test
+    public void shouldUploadInBackgroundAndPublishUrl_whenImgBBSucceeds() throws Exception {
+        // GIVEN
+        startImgBBStub(200, "{\"data\":{\"id\":\"stub\",\"url\":\"" + IMAGE_URL + "\"},\"success\":true,\"status\":200}");
+
+        // WHEN
+        ImageUploadJob job = imageUploadService.submit(image(), ImageUploadTarget.PROFILE_PIC, USER_ID, USER_ID);
+        imageUploadService.shutdown();
+
+        // THEN
+        assertThat(jobs.get(job.getId()).getStatus()).isEqualTo(ImageUploadStatus.DONE);
+        assertThat(jobs.get(job.getId()).getImageUrl()).isEqualTo(IMAGE_URL);
+        assertThat(receivedBody.get()).contains("fake-png-bytes");
+        assertThat(Files.list(spoolDir)).isEmpty();
+        Mockito.verify(eventPublisher).publishEvent(new ImageUploadedEvent(ImageUploadTarget.PROFILE_PIC, USER_ID, IMAGE_URL));
+    }
+
+    @Test
+    public void shouldMarkJobAsFailed_whenImgBBRejectsUpload() throws Exception {
+        // GIVEN
+        startImgBBStub(400, "{\"success\":false,\"status\":400}");
+
+        // WHEN
+        ImageUploadJob job = imageUploadService.submit(image(), ImageUploadTarget.PROJECT_BANNER, 10L, USER_ID);
+        imageUploadService.shutdown();
+
+        // THEN
+        assertThat(jobs.get(job.getId()).getStatus()).isEqualTo(ImageUploadStatus.FAILED);
+        assertThat(jobs.get(job.getId()).getImageUrl()).isNull();
+        assertThat(Files.list(spoolDir)).isEmpty();
+        Mockito.verify(eventPublisher, Mockito.never()).publishEvent(Mockito.any(Object.class));
+    }
+
+    @Test
+    public void shouldMarkJobAsFailed_whenJobCannotBeLoaded() throws Exception {
+        // GIVEN
+        startImgBBStub(200, "{\"data\":{\"url\":\"" + IMAGE_URL + "\"},\"success\":true,\"status\":200}");
+        Mockito.when(imageUploadJobRepository.findById(Mockito.any(UUID.class)))
+                .thenThrow(new CannotCreateTransactionException("Connection is not available"));
+
+        // WHEN
+        ImageUploadJob job = imageUploadService.submit(image(), ImageUploadTarget.PROFILE_PIC, USER_ID, USER_ID);
+        imageUploadService.shutdown();
+
+        // THEN
+        assertThat(jobs.get(job.getId()).getStatus()).isEqualTo(ImageUploadStatus.FAILED);
+        assertThat(Files.list(spoolDir)).isEmpty();
+        assertThat(uploads.get()).isZero();
+    }
+
+    @Test
+    public void shouldKeepSpooledImage_whenFailureCannotBeRecorded() throws Exception {
+        // GIVEN
+        startImgBBStub(200, "{\"data\":{\"url\":\"" + IMAGE_URL + "\"},\"success\":true,\"status\":200}");
+        Mockito.when(imageUploadJobRepository.findById(Mockito.any(UUID.class)))
+                .thenThrow(new CannotCreateTransactionException("Connection is not available"));
+        Mockito.when(imageUploadJobRepository.markFailed(Mockito.any(UUID.class), Mockito.any()))
+                .thenThrow(new CannotCreateTransactionException("Connection is not available"));
+
+        // WHEN
+        ImageUploadJob job = imageUploadService.submit(image(), ImageUploadTarget.PROFILE_PIC, USER_ID, USER_ID);
+        imageUploadService.shutdown();
+
+        // THEN
+        assertThat(jobs.get(job.getId()).getStatus()).isEqualTo(ImageUploadStatus.PENDING);
+        assertThat(Files.list(spoolDir)).hasSize(1);
+        Mockito.verify(imageUploadJobRepository, Mockito.times(3)).markFailed(Mockito.eq(job.getId()), Mockito.any());
+    }
+
+    @Test
+    public void shouldRejectUpload_whenQueueIsFull() throws Exception {
+        // GIVEN
+        queueCapacity = 1;
+        imgBBRelease = new CountDownLatch(1);
+        startImgBBStub(200, "{\"data\":{\"url\":\"" + IMAGE_URL + "\"},\"success\":true,\"status\":200}");
+        ImageUploadJob running = imageUploadService.submit(image(), ImageUploadTarget.PROFILE_PIC, USER_ID, USER_ID);
+        ImageUploadJob queued = imageUploadService.submit(image(), ImageUploadTarget.PROFILE_BANNER, USER_ID, USER_ID);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> imageUploadService.submit(image(), ImageUploadTarget.IMAGE, null, USER_ID))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        imgBBRelease.countDown();
+        imageUploadService.shutdown();
+        assertThat(jobs).hasSize(2);
+        assertThat(jobs.get(running.getId()).getStatus()).isEqualTo(ImageUploadStatus.DONE);
+        assertThat(jobs.get(queued.getId()).getStatus()).isEqualTo(ImageUploadStatus.DONE);
+        assertThat(Files.list(spoolDir)).isEmpty();
+    }
+
+    @Test
+    public void shouldOnlyApplyLatestUpload_whenOlderJobFinishesAfterNewerOne() throws Exception {
+        // GIVEN
+        imgBBRelease = new CountDownLatch(1);
+        startImgBBStub(200, "{\"data\":{\"url\":\"" + IMAGE_URL + "\"},\"success\":true,\"status\":200}");
+        ImageUploadJob older = imageUploadService.submit(image(), ImageUploadTarget.PROFILE_PIC, USER_ID, USER_ID);
+        ImageUploadJob newer = imageUploadService.submit(image(), ImageUploadTarget.PROFILE_PIC, USER_ID, USER_ID);
+
+        // WHEN
+        imgBBRelease.countDown();
+        imageUploadService.shutdown();
+
+        // THEN
+        assertThat(jobs.get(older.getId()).getStatus()).isEqualTo(ImageUploadStatus.DONE);
+        assertThat(jobs.get(newer.getId()).getStatus()).isEqualTo(ImageUploadStatus.DONE);
+        Mockito.verify(eventPublisher, Mockito.times(1)).publishEvent(new ImageUploadedEvent(ImageUploadTarget.PROFILE_PIC, USER_ID, IMAGE_URL));
+    }
+
+    @Test
+    public void shouldReuseStoredUrl_whenSameImageIsUploadedAgain() throws Exception {
+        // GIVEN
+        startImgBBStub(200, "{\"data\":{\"url\":\"" + IMAGE_URL + "\"},\"success\":true,\"status\":200}");
+
+        // WHEN
+        ImageUploadJob first = imageUploadService.submit(image(), ImageUploadTarget.PROFILE_PIC, USER_ID, USER_ID);
+        ImageUploadJob second = imageUploadService.submit(image(), ImageUploadTarget.PROFILE_PIC, USER_ID, USER_ID);
+        ImageUploadJob banner = imageUploadService.submit(image(), ImageUploadTarget.PROFILE_BANNER, USER_ID, USER_ID);
+        imageUploadService.shutdown();
+
+        // THEN
+        assertThat(jobs.get(first.getId()).getImageUrl()).isEqualTo(IMAGE_URL);
+        assertThat(jobs.get(second.getId()).getImageUrl()).isEqualTo(IMAGE_URL);
+        assertThat(jobs.get(second.getId()).getStatus()).isEqualTo(ImageUploadStatus.DONE);
+        assertThat(jobs.get(banner.getId()).getStatus()).isEqualTo(ImageUploadStatus.DONE);
+        assertThat(uploads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldOnlyReturnJob_toUserWhoRequestedIt() throws Exception {
+        // GIVEN
+        startImgBBStub(200, "{\"data\":{\"url\":\"" + IMAGE_URL + "\"},\"success\":true,\"status\":200}");
+        ImageUploadJob job = imageUploadService.submit(image(), ImageUploadTarget.IMAGE, null, USER_ID);
+        imageUploadService.shutdown();
+
+        // WHEN
+        Optional<ImageUploadJob> own = imageUploadService.findById(job.getId(), USER_ID);
+        Optional<ImageUploadJob> other = imageUploadService.findById(job.getId(), 2L);
+
+        // THEN
+        assertThat(own).isPresent();
+        assertThat(other).isEmpty();
+    }
+
+    private ImageProcessor imageProcessor() {
+        return new ImageProcessor(512, 512, 1920, 1080, 2560, 2560, 0.85f, 50_000_000L);
+    }
+
+    private ImgBBResilience imgBBResilience() {
+        return new ImgBBResilience(4, Duration.ofSeconds(1), 1, Duration.ofMillis(10), 50,
+                Duration.ofSeconds(5), Duration.ofSeconds(30), new SimpleMeterRegistry());
+    }
+
+    private MockMultipartFile image() {
+        return new MockMultipartFile("file", "avatar.png", "image/png", IMAGE_BYTES);
+    }
+
+    private void startImgBBStub(int status, String responseBody) throws IOException {
+        imgBBStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        imgBBStub.createContext("/", exchange -> {
+            uploads.incrementAndGet();
+            try {
+                imgBBRelease.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.ISO_8859_1));
+
+            byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        imgBBStub.start();
+
+        ImgBBClient imgBBClient = Feign.builder()
+                .contract(new SpringMvcContract())
+                .encoder(new SpringFormEncoder())
+                .decoder(new SpringDecoder(HttpMessageConverters::new,
+                        new DefaultListableBeanFactory().getBeanProvider(HttpMessageConverterCustomizer.class)))
+                .target(ImgBBClient.class, "http://localhost:" + imgBBStub.getAddress().getPort());
+
+        imageUploadService = new ImageUploadService(
+                imageUploadJobRepository,
+                new ImageSpool(spoolDir),
+                new ImageProcessingService(uploadedImageRepository, imageProcessor(), new ImgBBImageStorage(new ImgBBService(imgBBClient, imgBBResilience()))),
+                eventPublisher,
+                1,
+                queueCapacity
+        );
+    }
+
+}
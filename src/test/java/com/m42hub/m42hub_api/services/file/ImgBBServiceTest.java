@@ -0,0 +1,212 @@
+package com.m42hub.m42hub_api.services.file;
+
+import com.m42hub.m42hub_api.file.client.ImgBBClient;
+import com.m42hub.m42hub_api.file.client.ImgBBResilience;
+import com.m42hub.m42hub_api.file.service.ImgBBService;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.form.spring.SpringFormEncoder;
+import feign.hc5.ApacheHttp5Client;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ImgBBServiceTest {
+
+    private static final String IMAGE_URL = "https://i.ibb.co/stub/avatar.png";
+    private static final String SUCCESS = "{\"data\":{\"url\":\"" + IMAGE_URL + "\"},\"success\":true,\"status\":200}";
+
+    private HttpServer imgBBStub;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    // Recebe o número da requisição e devolve o status; a latência é injetada por teste
+    private volatile IntUnaryOperator statusForRequest = request -> 200;
+    private volatile long latencyMillis;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+
+        imgBBStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        imgBBStub.setExecutor(Executors.newCachedThreadPool());
+        imgBBStub.createContext("/", exchange -> {
+            int request = requests.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(latencyMillis);
+
+                int status = statusForRequest.applyAsInt(request);
+                byte[] body = (status == 200 ? SUCCESS : "{\"success\":false,\"status\":" + status + "}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (InterruptedException | IOException ignored) {
+                // O cliente desistiu por timeout
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        imgBBStub.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        imgBBStub.stop(0);
+    }
+
+    @Test
+    public void shouldRetryWithBackoff_whenImgBBIsTemporarilyUnavailable() {
+        // GIVEN
+        statusForRequest = request -> request <= 2 ? 503 : 200;
+        ImgBBService imgBBService = imgBBService(stubUrl(), 4, 3, 2000);
+
+        // WHEN
+        String url = imgBBService.uploadImage(image());
+
+        // THEN
+        assertThat(url).isEqualTo(IMAGE_URL);
+        assertThat(requests.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("imgbb.requests").tag("outcome", "503").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("imgbb.requests").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotRetry_whenImgBBRejectsTheFile() {
+        // GIVEN
+        statusForRequest = request -> 400;
+        ImgBBService imgBBService = imgBBService(stubUrl(), 4, 3, 2000);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> imgBBService.uploadImage(image())).isInstanceOf(FeignException.BadRequest.class);
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldGiveUpWithoutRetry_whenResponseExceedsReadTimeout() {
+        // GIVEN
+        latencyMillis = 2000;
+        ImgBBService imgBBService = imgBBService(stubUrl(), 4, 3, 200);
+
+        // WHEN
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> imgBBService.uploadImage(image())).isInstanceOf(RetryableException.class);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // THEN
+        assertThat(elapsed).isLessThan(1500);
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRetry_whenConnectionIsRefused() throws IOException {
+        // GIVEN
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        ImgBBService imgBBService = imgBBService("http://localhost:" + closedPort, 4, 3, 2000);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> imgBBService.uploadImage(image())).isInstanceOf(RetryableException.class);
+        assertThat(meterRegistry.get("imgbb.requests").tag("outcome", "io_error").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldOpenCircuit_whenImgBBKeepsFailing() {
+        // GIVEN
+        statusForRequest = request -> 500;
+        ImgBBService imgBBService = imgBBService(stubUrl(), 4, 3, 2000);
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> imgBBService.uploadImage(image())).isInstanceOf(FeignException.InternalServerError.class);
+        }
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> imgBBService.uploadImage(image())).isInstanceOf(CallNotPermittedException.class);
+        assertThat(requests.get()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldCapConcurrentCalls_whenManyUploadsRunAtOnce() throws Exception {
+        // GIVEN
+        latencyMillis = 200;
+        ImgBBService imgBBService = imgBBService(stubUrl(), 2, 1, 2000);
+
+        // WHEN
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 6; i++) {
+                results.add(executor.submit(() -> imgBBService.uploadImage(image())));
+            }
+        }
+
+        // THEN
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo(IMAGE_URL);
+        }
+        assertThat(maxInFlight.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("imgbb.requests.active").gauge().value()).isZero();
+    }
+
+    private ImgBBService imgBBService(String url, int maxConcurrentCalls, int maxAttempts, int readTimeoutMillis) {
+        ImgBBClient imgBBClient = Feign.builder()
+                .client(new ApacheHttp5Client(HttpClients.custom().disableAutomaticRetries().build()))
+                .retryer(Retryer.NEVER_RETRY)
+                .options(new Request.Options(500, TimeUnit.MILLISECONDS, readTimeoutMillis, TimeUnit.MILLISECONDS, true))
+                .contract(new SpringMvcContract())
+                .encoder(new SpringFormEncoder())
+                .decoder(new SpringDecoder(HttpMessageConverters::new,
+                        new DefaultListableBeanFactory().getBeanProvider(HttpMessageConverterCustomizer.class)))
+                .target(ImgBBClient.class, url);
+
+        ImgBBResilience imgBBResilience = new ImgBBResilience(maxConcurrentCalls, Duration.ofSeconds(5), maxAttempts,
+                Duration.ofMillis(20), 50, Duration.ofSeconds(5), Duration.ofSeconds(30), meterRegistry);
+
+        return new ImgBBService(imgBBClient, imgBBResilience);
+    }
+
+    private String stubUrl() {
+        return "http://localhost:" + imgBBStub.getAddress().getPort();
+    }
+
+    private MockMultipartFile image() {
+        return new MockMultipartFile("image", "avatar.png", "image/png", "fake-png-bytes".getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -73,7 +73,7 @@ public class ToolServiceTest {
     public void shouldReturnAllTools_whenFindAllIsCalled() {
         // GIVEN
         List<Tool> tools = List.of(toolPrimary, toolSecondary);
-        Mockito.when(toolRepository.findAll()).thenReturn(tools);
+        Mockito.when(toolRepository.findAllByOrderByNameAsc()).thenReturn(tools);
 
         // WHEN
         List<Tool> result = toolService.findAll();
@@ -82,7 +82,25 @@ public class ToolServiceTest {
         assertThat(result)
                 .hasSize(2)
                 .containsExactlyInAnyOrder(toolPrimary, toolSecondary);
-        Mockito.verify(toolRepository, Mockito.times(1)).findAll();
+        Mockito.verify(toolRepository, Mockito.times(1)).findAllByOrderByNameAsc();
+    }
+
+    @Test
+    public void shouldServeToolsFromCache_untilColorChanges() {
+        // GIVEN
+        Mockito.when(toolRepository.findAllByOrderByNameAsc()).thenReturn(List.of(toolPrimary, toolSecondary));
+        Mockito.when(toolRepository.findById(PRIMARY_TOOL_ID)).thenReturn(Optional.of(toolPrimary));
+
+        // WHEN
+        toolService.findAll();
+        List<Tool> resolved = toolService.findAllById(List.of(SECONDARY_TOOL_ID, PRIMARY_TOOL_ID));
+        toolService.changeColor(PRIMARY_TOOL_ID, UPDATED_COLOR);
+        toolService.findAll();
+
+        // THEN
+        assertThat(resolved).containsExactly(toolSecondary, toolPrimary);
+        Mockito.verify(toolRepository, Mockito.times(2)).findAllByOrderByNameAsc();
+        Mockito.verify(toolRepository, Mockito.never()).findAllById(Mockito.any());
     }
 
     @Test
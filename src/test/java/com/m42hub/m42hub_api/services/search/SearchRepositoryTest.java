@@ -0,0 +1,177 @@
+package com.m42hub.m42hub_api.services.search;
+
+import com.m42hub.m42hub_api.search.repository.SearchRepository;
+import com.m42hub.m42hub_api.search.repository.SearchResult;
+import com.m42hub.m42hub_api.search.repository.SearchResultType;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// As consultas usam tsvector e websearch_to_tsquery, então rodam contra um Postgres real com as migrations aplicadas
+public class SearchRepositoryTest {
+
+    private static final Set<SearchResultType> ALL_TYPES = EnumSet.allOf(SearchResultType.class);
+
+    private static EmbeddedPostgres postgres;
+    private static SessionFactory sessionFactory;
+
+    private static String firstTournamentId;
+    private static String clubId;
+    private static String recipesId;
+    private static String activeUserId;
+    private static String contributionId;
+
+    private EntityManager entityManager;
+    private SearchRepository repository;
+
+    @BeforeAll
+    public static void setUpDatabase() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure().dataSource(postgres.getPostgresDatabase()).load().migrate();
+
+        JdbcTemplate jdbc = new JdbcTemplate(postgres.getPostgresDatabase());
+        firstTournamentId = insertProject(jdbc, "Torneio de xadrez", "partidas online", "ranking semanal");
+        clubId = insertProject(jdbc, "Clube de xadrez", "partidas online", "ranking semanal");
+        recipesId = insertProject(jdbc, "Portal de receitas", "culinária caseira", "tem uma seção sobre xadrez");
+
+        activeUserId = insertUser(jdbc, "marianadev", "jogo xadrez aos domingos", true);
+        insertUser(jdbc, "brunodev", "xadrez todo dia", false);
+
+        contributionId = jdbc.queryForObject("""
+                INSERT INTO contributions (contribution_id, user_id, name, description, submitted_at, created_at)
+                VALUES (gen_random_uuid(), ?, 'Tradução do guia', 'abertura de xadrez explicada', now(), now())
+                RETURNING CAST(contribution_id AS TEXT)
+                """, String.class, Long.valueOf(activeUserId));
+
+        sessionFactory = new Configuration()
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, postgres.getJdbcUrl("postgres", "postgres"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "postgres")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "postgres")
+                .buildSessionFactory();
+    }
+
+    @AfterAll
+    public static void tearDownDatabase() throws IOException {
+        sessionFactory.close();
+        postgres.close();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        entityManager = sessionFactory.createEntityManager();
+        repository = new SearchRepository(entityManager);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        entityManager.close();
+    }
+
+    @Test
+    public void shouldRankNameMatchesFirstAndBreakTiesById_whenSearchingAllTypes() {
+        // WHEN
+        List<SearchResult> results = repository.search("xadrez", ALL_TYPES, 0, 10);
+
+        // THEN
+        assertThat(results).extracting(SearchResult::type, SearchResult::id)
+                .startsWith(
+                        tuple(SearchResultType.PROJECT, firstTournamentId),
+                        tuple(SearchResultType.PROJECT, clubId)
+                )
+                .containsExactlyInAnyOrder(
+                        tuple(SearchResultType.PROJECT, firstTournamentId),
+                        tuple(SearchResultType.PROJECT, clubId),
+                        tuple(SearchResultType.PROJECT, recipesId),
+                        tuple(SearchResultType.USER, activeUserId),
+                        tuple(SearchResultType.CONTRIBUTION, contributionId)
+                );
+        assertThat(results.get(0).rank()).isEqualTo(results.get(1).rank());
+        assertThat(results.get(1).rank()).isGreaterThan(results.get(2).rank());
+    }
+
+    @Test
+    public void shouldSkipInactiveUsers_whenSearchingUsers() {
+        // WHEN
+        List<SearchResult> results = repository.search("xadrez", EnumSet.of(SearchResultType.USER), 0, 10);
+
+        // THEN
+        assertThat(results).extracting(SearchResult::id).containsExactly(activeUserId);
+    }
+
+    @Test
+    public void shouldMatchUsernameWithoutStemming_whenSearchingByUsername() {
+        // WHEN
+        List<SearchResult> results = repository.search("marianadev", ALL_TYPES, 0, 10);
+
+        // THEN
+        assertThat(results).extracting(SearchResult::type, SearchResult::title)
+                .containsExactly(tuple(SearchResultType.USER, "marianadev"));
+    }
+
+    @Test
+    public void shouldApplyWebsearchSyntax_whenQueryExcludesTerm() {
+        // WHEN
+        List<SearchResult> results = repository.search("xadrez -receitas", EnumSet.of(SearchResultType.PROJECT), 0, 10);
+
+        // THEN
+        assertThat(results).extracting(SearchResult::id).containsExactly(firstTournamentId, clubId);
+    }
+
+    @Test
+    public void shouldCountMatchesOfSearchedTypesOnly() {
+        // WHEN / THEN
+        assertThat(repository.count("xadrez", ALL_TYPES)).isEqualTo(5);
+        assertThat(repository.count("xadrez", EnumSet.of(SearchResultType.PROJECT))).isEqualTo(3);
+        assertThat(repository.count("damas", ALL_TYPES)).isZero();
+    }
+
+    @Test
+    public void shouldReturnSameOrderAcrossPages_whenUsingLimitAndOffset() {
+        // GIVEN
+        List<SearchResult> all = repository.search("xadrez", ALL_TYPES, 0, 10);
+
+        // WHEN
+        List<SearchResult> paged = new ArrayList<>();
+        for (long offset = 0; offset < 6; offset += 2) {
+            paged.addAll(repository.search("xadrez", ALL_TYPES, offset, 2));
+        }
+
+        // THEN
+        assertThat(paged).isEqualTo(all);
+    }
+
+    private static String insertProject(JdbcTemplate jdbc, String name, String summary, String description) {
+        return jdbc.queryForObject("""
+                INSERT INTO projects (name, summary, description, complexity_id, start_date, created_at)
+                VALUES (?, ?, ?, 1, now(), now())
+                RETURNING CAST(project_id AS TEXT)
+                """, String.class, name, summary, description);
+    }
+
+    private static String insertUser(JdbcTemplate jdbc, String username, String biography, boolean active) {
+        return jdbc.queryForObject("""
+                INSERT INTO users (username, password, email, is_active, system_role_id, biography, created_at)
+                VALUES (?, 'x', ? || '@m42hub.com', ?, 2, ?, now())
+                RETURNING CAST(user_id AS TEXT)
+                """, String.class, username, username, active, biography);
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.m42hub.m42hub_api.services.search;
+
+import com.m42hub.m42hub_api.exceptions.BadRequestException;
+import com.m42hub.m42hub_api.search.repository.SearchRepository;
+import com.m42hub.m42hub_api.search.repository.SearchResultType;
+import com.m42hub.m42hub_api.search.service.SearchService;
+import com.m42hub.m42hub_api.shared.pagination.PageTotalService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SearchServiceTest {
+
+    @Mock
+    private SearchRepository repository;
+
+    @Mock
+    private PageTotalService pageTotalService;
+
+    @InjectMocks
+    private SearchService searchService;
+
+    private AutoCloseable mocks;
+
+    @BeforeEach
+    public void setUp() {
+        mocks = MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void shouldRejectSearch_whenPageIsNegative() {
+        // WHEN / THEN
+        assertThatThrownBy(() -> searchService.search("xadrez", null, -1, 10))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("page deve ser maior ou igual a zero");
+        Mockito.verifyNoInteractions(repository, pageTotalService);
+    }
+
+    @Test
+    public void shouldRejectSearch_whenPageIsNull() {
+        // WHEN / THEN
+        assertThatThrownBy(() -> searchService.search("xadrez", null, null, 10))
+                .isInstanceOf(BadRequestException.class);
+        Mockito.verifyNoInteractions(repository, pageTotalService);
+    }
+
+    @Test
+    public void shouldRejectSearch_whenLimitIsNotPositive() {
+        // WHEN / THEN
+        assertThatThrownBy(() -> searchService.search("xadrez", null, 0, 0))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("limit deve estar entre 1 e 50");
+        Mockito.verifyNoInteractions(repository, pageTotalService);
+    }
+
+    @Test
+    public void shouldRejectSearch_whenLimitIsAboveMaximum() {
+        // WHEN / THEN
+        assertThatThrownBy(() -> searchService.search("xadrez", null, 0, 51))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("limit deve estar entre 1 e 50");
+        Mockito.verifyNoInteractions(repository, pageTotalService);
+    }
+
+    @Test
+    public void shouldRejectSearch_whenQueryIsBlank() {
+        // WHEN / THEN
+        assertThatThrownBy(() -> searchService.search("  ", null, 0, 10))
+                .isInstanceOf(BadRequestException.class);
+        Mockito.verifyNoInteractions(repository, pageTotalService);
+    }
+
+    @Test
+    public void shouldSearchAllTypesWithTrimmedQuery_whenTypesAreEmpty() {
+        // GIVEN
+        Mockito.when(repository.search(ArgumentMatchers.anyString(), ArgumentMatchers.any(), ArgumentMatchers.anyLong(), ArgumentMatchers.anyInt()))
+                .thenReturn(List.of());
+
+        // WHEN
+        searchService.search("  xadrez ", List.of(), 2, 50);
+
+        // THEN
+        Mockito.verify(repository).search("xadrez", EnumSet.allOf(SearchResultType.class), 100L, 50);
+    }
+
+}
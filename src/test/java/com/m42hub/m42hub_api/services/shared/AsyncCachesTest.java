@@ -0,0 +1,90 @@
+package com.m42hub.m42hub_api.services.shared;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.m42hub.m42hub_api.shared.cache.AsyncCaches;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AsyncCachesTest {
+
+    private final AsyncCache<String, Long> cache = Caffeine.newBuilder().buildAsync();
+
+    @Test
+    public void shouldLoadOnce_whenManyThreadsMissTheSameKey() throws Exception {
+        // GIVEN
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // WHEN
+        List<Future<Long>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results.add(executor.submit(() -> AsyncCaches.get(cache, "projects", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return 42L;
+            })));
+            loading.await();
+
+            for (int i = 0; i < 50; i++) {
+                results.add(executor.submit(() -> AsyncCaches.get(cache, "projects", () -> {
+                    loads.incrementAndGet();
+                    return 0L;
+                })));
+            }
+            release.countDown();
+        }
+
+        // THEN
+        for (Future<Long> result : results) {
+            assertThat(result.get()).isEqualTo(42L);
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotCacheFailure_whenLoaderThrows() {
+        // GIVEN
+        IllegalStateException failure = new IllegalStateException("banco fora do ar");
+
+        // WHEN
+        assertThatThrownBy(() -> AsyncCaches.get(cache, "projects", () -> {
+            throw failure;
+        })).isSameAs(failure);
+        Long value = AsyncCaches.get(cache, "projects", () -> 7L);
+
+        // THEN
+        assertThat(value).isEqualTo(7L);
+    }
+
+    @Test
+    public void shouldNotCacheNull_whenLoaderFindsNothing() {
+        // WHEN
+        Long missing = AsyncCaches.get(cache, "token", () -> null);
+
+        // THEN
+        assertThat(missing).isNull();
+        assertThat(cache.getIfPresent("token")).isNull();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
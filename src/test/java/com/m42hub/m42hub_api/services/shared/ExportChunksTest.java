@@ -0,0 +1,49 @@
+package com.m42hub.m42hub_api.services.shared;
+
+import com.m42hub.m42hub_api.shared.export.ExportChunks;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExportChunksTest {
+
+    private final EntityManager entityManager = Mockito.mock(EntityManager.class);
+
+    @Test
+    public void shouldDeliverChunksOf500AndClearContext_whenStreamingRows() {
+        // GIVEN
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<Long> delivered = new ArrayList<>();
+
+        // WHEN
+        ExportChunks.forEach(LongStream.range(0, 1201).boxed(), entityManager, chunk -> {
+            chunkSizes.add(chunk.size());
+            delivered.addAll(chunk);
+        });
+
+        // THEN
+        assertThat(chunkSizes).containsExactly(500, 500, 201);
+        assertThat(delivered).hasSize(1201).startsWith(0L, 1L).endsWith(1200L);
+        Mockito.verify(entityManager, Mockito.times(3)).clear();
+    }
+
+    @Test
+    public void shouldNotDeliverEmptyChunk_whenRowsFillExactChunks() {
+        // GIVEN
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        // WHEN
+        ExportChunks.forEach(LongStream.range(0, 500).boxed(), entityManager, chunk -> chunkSizes.add(chunk.size()));
+
+        // THEN
+        assertThat(chunkSizes).containsExactly(500);
+        Mockito.verify(entityManager, Mockito.times(1)).clear();
+    }
+
+}
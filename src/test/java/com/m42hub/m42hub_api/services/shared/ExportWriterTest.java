@@ -0,0 +1,102 @@
+package com.m42hub.m42hub_api.services.shared;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.m42hub.m42hub_api.shared.export.ExportFormat;
+import com.m42hub.m42hub_api.shared.export.ExportWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void shouldWriteHeaderFromRecordComponents_whenFormatIsCsv() {
+        // GIVEN
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // WHEN
+        new ExportWriter<>(output, ExportFormat.CSV, Row.class, objectMapper).finish();
+
+        // THEN
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("id,name,tags\r\n");
+    }
+
+    @Test
+    public void shouldQuoteCsvCells_whenValuesContainCommasQuotesOrLineBreaks() {
+        // GIVEN
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ExportWriter<Row> writer = new ExportWriter<>(output, ExportFormat.CSV, Row.class, objectMapper);
+
+        // WHEN
+        writer.write(new Row(1L, "Java, Spring", List.of()));
+        writer.write(new Row(2L, "O \"M42\"", List.of("a")));
+        writer.write(new Row(3L, "linha 1\nlinha 2", null));
+        writer.write(new Row(4L, "simples", List.of("a", "b")));
+        writer.finish();
+
+        // THEN
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,name,tags\r\n"
+                        + "1,\"Java, Spring\",[]\r\n"
+                        + "2,\"O \"\"M42\"\"\",\"[\"\"a\"\"]\"\r\n"
+                        + "3,\"linha 1\nlinha 2\",\r\n"
+                        + "4,simples,\"[\"\"a\"\",\"\"b\"\"]\"\r\n"
+        );
+    }
+
+    @Test
+    public void shouldWriteOneJsonObjectPerLine_whenFormatIsNdjson() {
+        // GIVEN
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ExportWriter<Row> writer = new ExportWriter<>(output, ExportFormat.NDJSON, Row.class, objectMapper);
+
+        // WHEN
+        writer.write(new Row(1L, "linha 1\nlinha 2", List.of("a")));
+        writer.write(new Row(2L, "b", null));
+        writer.finish();
+
+        // THEN
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":1,\"name\":\"linha 1\\nlinha 2\",\"tags\":[\"a\"]}\n"
+                        + "{\"id\":2,\"name\":\"b\",\"tags\":null}\n"
+        );
+    }
+
+    @Test
+    public void shouldFlushToClient_every500Rows() {
+        // GIVEN
+        FlushCountingOutputStream output = new FlushCountingOutputStream();
+        ExportWriter<Row> writer = new ExportWriter<>(output, ExportFormat.NDJSON, Row.class, objectMapper);
+
+        // WHEN
+        for (long i = 0; i < 999; i++) {
+            writer.write(new Row(i, "row", null));
+        }
+        int flushesBefore1000 = output.flushes;
+        writer.write(new Row(999L, "row", null));
+
+        // THEN
+        assertThat(flushesBefore1000).isEqualTo(1);
+        assertThat(output.flushes).isEqualTo(2);
+        assertThat(output.toString(StandardCharsets.UTF_8).lines()).hasSize(1000);
+    }
+
+    public record Row(Long id, String name, List<String> tags) {
+    }
+
+    private static class FlushCountingOutputStream extends ByteArrayOutputStream {
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+
+}
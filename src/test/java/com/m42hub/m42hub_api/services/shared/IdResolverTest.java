@@ -0,0 +1,85 @@
+package com.m42hub.m42hub_api.services.shared;
+
+import com.m42hub.m42hub_api.config.IdResolver;
+import com.m42hub.m42hub_api.exceptions.CustomNotFoundException;
+import com.m42hub.m42hub_api.project.entity.Tool;
+import com.m42hub.m42hub_api.services.util.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IdResolverTest {
+
+    private static final Map<Long, Tool> TOOLS = Map.of(
+            1L, TestUtils.createTool(1L, "Java", "#F89820", "Linguagem"),
+            2L, TestUtils.createTool(2L, "Angular", "#DD0031", "Framework"),
+            3L, TestUtils.createTool(3L, "PostgreSQL", "#336791", "Banco")
+    );
+
+    private final List<Collection<Long>> loads = new ArrayList<>();
+
+    @Test
+    public void shouldKeepRequestedOrder_whenLoaderReturnsAnotherOrder() {
+        // WHEN
+        List<Tool> tools = IdResolver.resolve(List.of(3L, 1L, 2L), this::loadReversed, Tool::getId, "Ferramentas não encontradas");
+
+        // THEN
+        assertThat(tools).extracting(Tool::getId).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    public void shouldLoadOnceAndReturnOnce_whenIdsAreRepeated() {
+        // WHEN
+        List<Tool> tools = IdResolver.resolve(List.of(2L, 1L, 2L, 1L), this::loadReversed, Tool::getId, "Ferramentas não encontradas");
+
+        // THEN
+        assertThat(tools).extracting(Tool::getId).containsExactly(2L, 1L);
+        assertThat(loads).containsExactly(List.of(2L, 1L));
+    }
+
+    @Test
+    public void shouldReturnEmptyWithoutLoading_whenIdsAreNullOrEmpty() {
+        // WHEN
+        List<Tool> fromNull = IdResolver.resolve(null, this::loadReversed, Tool::getId, "Ferramentas não encontradas");
+        List<Tool> fromEmpty = IdResolver.resolve(List.of(), this::loadReversed, Tool::getId, "Ferramentas não encontradas");
+
+        // THEN
+        assertThat(fromNull).isEmpty();
+        assertThat(fromEmpty).isEmpty();
+        assertThat(loads).isEmpty();
+    }
+
+    @Test
+    public void shouldListEveryMissingId_whenSomeIdsDoNotExist() {
+        // WHEN / THEN
+        assertThatThrownBy(() -> IdResolver.resolve(List.of(1L, 7L, 2L, 9L), this::loadReversed, Tool::getId, "Ferramentas não encontradas"))
+                .isInstanceOf(CustomNotFoundException.class)
+                .hasMessage("Ferramentas não encontradas: 7, 9");
+    }
+
+    @Test
+    public void shouldReportNullId_whenListContainsNull() {
+        // WHEN / THEN
+        assertThatThrownBy(() -> IdResolver.resolve(Arrays.asList(1L, null), this::loadReversed, Tool::getId, "Ferramentas não encontradas"))
+                .isInstanceOf(CustomNotFoundException.class)
+                .hasMessage("Ferramentas não encontradas: null");
+        assertThat(loads).containsExactly(List.of(1L));
+    }
+
+    private List<Tool> loadReversed(Collection<Long> ids) {
+        loads.add(List.copyOf(ids));
+        List<Tool> found = new ArrayList<>(ids.stream().map(TOOLS::get).filter(Objects::nonNull).toList());
+        Collections.reverse(found);
+        return found;
+    }
+
+}
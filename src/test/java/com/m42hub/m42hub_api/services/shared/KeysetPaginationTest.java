@@ -0,0 +1,198 @@
+package com.m42hub.m42hub_api.services.shared;
+
+import com.m42hub.m42hub_api.exceptions.BadRequestException;
+import com.m42hub.m42hub_api.shared.pagination.CursorPage;
+import com.m42hub.m42hub_api.shared.pagination.KeysetPagination;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class KeysetPaginationTest {
+
+    private static final Specification<KeysetItem> ALL = (root, query, criteriaBuilder) -> null;
+
+    private static SessionFactory sessionFactory;
+
+    private EntityManager entityManager;
+
+    // Empates em score e name, e nulos em score, atravessando as páginas de 2 em 2
+    @BeforeAll
+    public static void setUpDatabase() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(KeysetItem.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:keyset;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> List.of(
+                new KeysetItem(1L, 10, "b"),
+                new KeysetItem(2L, null, "a"),
+                new KeysetItem(3L, 20, "c"),
+                new KeysetItem(4L, 10, "a"),
+                new KeysetItem(5L, null, "b"),
+                new KeysetItem(6L, 30, "a"),
+                new KeysetItem(7L, 20, "c"),
+                new KeysetItem(8L, 10, "b"),
+                new KeysetItem(9L, null, "c")
+        ).forEach(session::persist));
+    }
+
+    @AfterAll
+    public static void tearDownDatabase() {
+        sessionFactory.close();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        entityManager = sessionFactory.createEntityManager();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        entityManager.close();
+    }
+
+    @Test
+    public void shouldWalkAllRowsInOrder_whenSortingNullableColumnAscending() {
+        // WHEN
+        List<Long> ids = readAll(Sort.Order.asc("score"));
+
+        // THEN
+        assertThat(ids).containsExactly(1L, 4L, 8L, 3L, 7L, 6L, 2L, 5L, 9L);
+    }
+
+    @Test
+    public void shouldWalkAllRowsInOrder_whenSortingNullableColumnDescending() {
+        // WHEN
+        List<Long> ids = readAll(Sort.Order.desc("score"));
+
+        // THEN
+        assertThat(ids).containsExactly(9L, 5L, 2L, 6L, 7L, 3L, 8L, 4L, 1L);
+    }
+
+    @Test
+    public void shouldBreakTiesById_whenSortingRequiredColumn() {
+        // WHEN
+        List<Long> ascending = readAll(Sort.Order.asc("name"));
+        List<Long> descending = readAll(Sort.Order.desc("name"));
+
+        // THEN
+        assertThat(ascending).containsExactly(2L, 4L, 6L, 1L, 5L, 8L, 3L, 7L, 9L);
+        assertThat(descending).containsExactly(9L, 7L, 3L, 8L, 5L, 1L, 6L, 4L, 2L);
+    }
+
+    @Test
+    public void shouldSeekOnIdOnly_whenSortingById() {
+        // WHEN
+        List<Long> ids = readAll(Sort.Order.desc("id"));
+
+        // THEN
+        assertThat(ids).containsExactly(9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    public void shouldReturnNoCursor_whenLastPageIsReached() {
+        // WHEN
+        CursorPage<Long> page = KeysetPagination.findIds(entityManager, KeysetItem.class, ALL, Sort.Order.asc("id"), null, 9);
+
+        // THEN
+        assertThat(page.content()).hasSize(9);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    public void shouldRejectCursor_whenItIsNotBase64() {
+        // WHEN / THEN
+        assertThatThrownBy(() -> KeysetPagination.findIds(entityManager, KeysetItem.class, ALL, Sort.Order.asc("score"), "not a cursor!", 2))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    public void shouldRejectCursor_whenSortDoesNotMatch() {
+        // GIVEN
+        String cursor = KeysetPagination.findIds(entityManager, KeysetItem.class, ALL, Sort.Order.asc("score"), null, 2).nextCursor();
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> KeysetPagination.findIds(entityManager, KeysetItem.class, ALL, Sort.Order.desc("score"), cursor, 2))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    public void shouldRejectCursor_whenValuesAreTampered() {
+        // GIVEN
+        String badId = encode("score|ASC|abc|=10");
+        String badValue = encode("score|ASC|4|=ten");
+        String missingParts = encode("score|ASC|4");
+
+        // WHEN / THEN
+        for (String cursor : List.of(badId, badValue, missingParts)) {
+            assertThatThrownBy(() -> KeysetPagination.findIds(entityManager, KeysetItem.class, ALL, Sort.Order.asc("score"), cursor, 2))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
+    @Test
+    public void shouldRejectSort_whenPropertyDoesNotExist() {
+        // WHEN / THEN
+        assertThatThrownBy(() -> KeysetPagination.findIds(entityManager, KeysetItem.class, ALL, Sort.Order.asc("unknown"), null, 2))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private List<Long> readAll(Sort.Order order) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Long> page = KeysetPagination.findIds(entityManager, KeysetItem.class, ALL, order, cursor, 2);
+            ids.addAll(page.content());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Entity
+    @Table(name = "keyset_items")
+    public static class KeysetItem {
+
+        @Id
+        private Long id;
+
+        private Integer score;
+
+        @Column(nullable = false)
+        private String name;
+
+        protected KeysetItem() {
+        }
+
+        KeysetItem(Long id, Integer score, String name) {
+            this.id = id;
+            this.score = score;
+            this.name = name;
+        }
+    }
+
+}
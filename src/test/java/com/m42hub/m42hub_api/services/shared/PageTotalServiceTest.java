@@ -0,0 +1,179 @@
+package com.m42hub.m42hub_api.services.shared;
+
+import com.m42hub.m42hub_api.shared.pagination.CountedPage;
+import com.m42hub.m42hub_api.shared.pagination.PageTotal;
+import com.m42hub.m42hub_api.shared.pagination.PageTotalService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PageTotalServiceTest {
+
+    private static final String TABLE = "projects";
+    private static final long THRESHOLD = 100;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PageTotalService pageTotalService;
+
+    private final AtomicLong counts = new AtomicLong();
+
+    private AutoCloseable mocks;
+
+    @BeforeEach
+    public void setUp() {
+        mocks = MockitoAnnotations.openMocks(this);
+        pageTotalService = new PageTotalService(jdbcTemplate, Duration.ofMinutes(1), 100, THRESHOLD);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        mocks.close();
+    }
+
+    @Test
+    public void shouldUseCachedEstimate_whenUnfilteredTableIsAboveThreshold() {
+        // GIVEN
+        stubEstimate(5000L);
+
+        // WHEN
+        PageTotal first = pageTotalService.total(TABLE, unfiltered(), this::count);
+        PageTotal second = pageTotalService.total(TABLE, unfiltered(), this::count);
+
+        // THEN
+        assertThat(first).isEqualTo(new PageTotal(5000, true));
+        assertThat(second).isEqualTo(first);
+        assertThat(counts.get()).isZero();
+        Mockito.verify(jdbcTemplate, Mockito.times(1)).queryForObject(Mockito.anyString(), Mockito.eq(Long.class), Mockito.<Object>any());
+    }
+
+    @Test
+    public void shouldCountExactly_whenEstimateIsBelowThreshold() {
+        // GIVEN
+        stubEstimate(THRESHOLD - 1);
+
+        // WHEN
+        PageTotal total = pageTotalService.total(TABLE, unfiltered(), this::count);
+
+        // THEN
+        assertThat(total).isEqualTo(new PageTotal(1, false));
+    }
+
+    @Test
+    public void shouldCountOnceAndSkipEstimate_whenFiltered() {
+        // WHEN
+        PageTotal first = pageTotalService.total(TABLE, List.of(List.of(2L, 1L)), this::count);
+        PageTotal second = pageTotalService.total(TABLE, List.of(List.of(1L, 2L, 2L)), this::count);
+
+        // THEN
+        assertThat(first).isEqualTo(new PageTotal(1, false));
+        assertThat(second).isEqualTo(first);
+        Mockito.verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void shouldCountAndRetryEstimate_whenEstimateQueryFails() {
+        // GIVEN
+        Mockito.when(jdbcTemplate.queryForObject(Mockito.anyString(), Mockito.eq(Long.class), Mockito.<Object>any()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // WHEN
+        pageTotalService.total(TABLE, unfiltered(), this::count);
+        PageTotal total = pageTotalService.total(TABLE, unfiltered(), this::count);
+
+        // THEN
+        assertThat(total).isEqualTo(new PageTotal(1, false));
+        Mockito.verify(jdbcTemplate, Mockito.times(2)).queryForObject(Mockito.anyString(), Mockito.eq(Long.class), Mockito.<Object>any());
+    }
+
+    @Test
+    public void shouldRaiseEstimate_whenRowsAlreadyReadExceedIt() {
+        // GIVEN
+        stubEstimate(150L);
+        List<Long> content = Collections.nCopies(10, 1L);
+
+        // WHEN
+        CountedPage<Long> page = pageTotalService.toPage(content, PageRequest.of(20, 10), TABLE, unfiltered(), this::count);
+
+        // THEN
+        assertThat(page.getTotalElements()).isEqualTo(210);
+        assertThat(page.isTotalEstimate()).isTrue();
+    }
+
+    @Test
+    public void shouldUseRowsRead_whenPageIsIncomplete() {
+        // WHEN
+        CountedPage<Long> page = pageTotalService.toPage(List.of(1L, 2L), PageRequest.of(3, 10), TABLE, unfiltered(), this::count);
+
+        // THEN
+        assertThat(page.getTotalElements()).isEqualTo(32);
+        assertThat(page.isTotalEstimate()).isFalse();
+        Mockito.verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void shouldRecount_afterInvalidatedTransactionCommits() {
+        // GIVEN
+        List<Object> filters = List.of("open");
+        pageTotalService.total(TABLE, filters, this::count);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // WHEN
+        pageTotalService.invalidate(TABLE);
+        PageTotal beforeCommit = pageTotalService.total(TABLE, filters, this::count);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        PageTotal afterCommit = pageTotalService.total(TABLE, filters, this::count);
+
+        // THEN
+        assertThat(beforeCommit.value()).isEqualTo(2);
+        assertThat(afterCommit.value()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldKeepOtherTables_whenInvalidatingOneTable() {
+        // GIVEN
+        List<Object> filters = List.of("open");
+        pageTotalService.total("donations", filters, this::count);
+
+        // WHEN
+        pageTotalService.invalidate(TABLE);
+        PageTotal total = pageTotalService.total("donations", filters, this::count);
+
+        // THEN
+        assertThat(total.value()).isEqualTo(1);
+    }
+
+    private long count() {
+        return counts.incrementAndGet();
+    }
+
+    private static List<Object> unfiltered() {
+        return Arrays.asList(null, null);
+    }
+
+    private void stubEstimate(long estimate) {
+        Mockito.when(jdbcTemplate.queryForObject(Mockito.anyString(), Mockito.eq(Long.class), Mockito.<Object>any()))
+                .thenReturn(estimate);
+    }
+
+}
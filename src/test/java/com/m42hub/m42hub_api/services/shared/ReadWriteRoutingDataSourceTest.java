@@ -0,0 +1,146 @@
+package com.m42hub.m42hub_api.services.shared;
+
+import com.m42hub.m42hub_api.config.JWTUserData;
+import com.m42hub.m42hub_api.config.ReadWriteRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReadWriteRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final AtomicBoolean replicaAvailable = new AtomicBoolean(true);
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replica, replicaAvailable::get, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        endTransaction();
+    }
+
+    @Test
+    public void shouldUseReplica_whenTransactionIsReadOnly() throws SQLException {
+        // GIVEN
+        beginTransaction(true);
+
+        // WHEN
+        Connection connection = routingDataSource.getConnection();
+
+        // THEN
+        assertThat(connection).isSameAs(replicaConnection);
+    }
+
+    @Test
+    public void shouldUsePrimary_whenTransactionWritesOrThereIsNoTransaction() throws SQLException {
+        // GIVEN / WHEN
+        Connection withoutTransaction = routingDataSource.getConnection();
+        beginTransaction(false);
+        Connection writable = routingDataSource.getConnection();
+
+        // THEN
+        assertThat(withoutTransaction).isSameAs(primaryConnection);
+        assertThat(writable).isSameAs(primaryConnection);
+    }
+
+    @Test
+    public void shouldUsePrimary_whenReplicaIsLaggingOrDown() throws SQLException {
+        // GIVEN
+        replicaAvailable.set(false);
+        beginTransaction(true);
+
+        // WHEN
+        Connection connection = routingDataSource.getConnection();
+
+        // THEN
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    public void shouldReadOwnWritesFromPrimary_afterUserCommits() throws SQLException {
+        // GIVEN
+        authenticate("alice");
+        beginTransaction(false);
+        routingDataSource.getConnection();
+        commit();
+
+        // WHEN
+        beginTransaction(true);
+        Connection ownRead = routingDataSource.getConnection();
+        endTransaction();
+        authenticate("bob");
+        beginTransaction(true);
+        Connection otherUserRead = routingDataSource.getConnection();
+
+        // THEN
+        assertThat(ownRead).isSameAs(primaryConnection);
+        assertThat(otherUserRead).isSameAs(replicaConnection);
+    }
+
+    @Test
+    public void shouldNotStick_whenWriteIsRolledBack() throws SQLException {
+        // GIVEN
+        authenticate("alice");
+        beginTransaction(false);
+        routingDataSource.getConnection();
+        endTransaction();
+
+        // WHEN
+        beginTransaction(true);
+        Connection connection = routingDataSource.getConnection();
+
+        // THEN
+        assertThat(connection).isSameAs(replicaConnection);
+    }
+
+    private void authenticate(String username) {
+        JWTUserData userData = JWTUserData.builder().id(1L).username(username).role("USER").build();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userData, null, List.of()));
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        endTransaction();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+}
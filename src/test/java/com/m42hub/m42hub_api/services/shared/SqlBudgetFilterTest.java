@@ -0,0 +1,107 @@
+package com.m42hub.m42hub_api.services.shared;
+
+import com.m42hub.m42hub_api.shared.sql.SqlBudget;
+import com.m42hub.m42hub_api.shared.sql.SqlBudgetExceededException;
+import com.m42hub.m42hub_api.shared.sql.SqlBudgetFilter;
+import com.m42hub.m42hub_api.shared.sql.SqlRequestStats;
+import com.m42hub.m42hub_api.shared.sql.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.m42hub.m42hub_api.services.util.SqlBudgetMatchers.maxQueries;
+import static com.m42hub.m42hub_api.services.util.SqlBudgetMatchers.noNPlusOne;
+import static com.m42hub.m42hub_api.services.util.SqlBudgetMatchers.stats;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class SqlBudgetFilterTest {
+
+    @SuppressWarnings("unchecked")
+    private final SqlStatementCounter counter = new SqlStatementCounter(mock(ObjectProvider.class));
+
+    // Simula o Hibernate: uma consulta pela lista e uma por item carregado de forma lazy
+    @RestController
+    class ProjectsController {
+
+        @GetMapping("/projects/{items}")
+        public String list(@PathVariable int items) {
+            counter.inspect("select p1_0.project_id from projects p1_0");
+            for (int i = 0; i < items; i++) {
+                counter.inspect("select t1_0.project_tools_id from projects_tools t1_0 where t1_0.project_id=?");
+            }
+            return "ok";
+        }
+
+        @SqlBudget(maxStatements = 2)
+        @GetMapping("/projects/{items}/budgeted")
+        public String budgeted(@PathVariable int items) {
+            return list(items);
+        }
+
+    }
+
+    @Test
+    public void shouldCountStatementsAndFlagRepeatedOnes() throws Exception {
+        // GIVEN
+        MockMvc mvc = mvc(false);
+
+        // WHEN
+        MvcResult result = mvc.perform(get("/projects/6")).andExpect(status().isOk()).andReturn();
+
+        // THEN
+        SqlRequestStats stats = stats(result);
+        assertThat(stats.statementCount()).isEqualTo(7);
+        assertThat(stats.nPlusOneSuspects(5)).containsValue(6).hasSize(1);
+        assertThatThrownBy(() -> noNPlusOne(5).match(result)).isInstanceOf(AssertionError.class);
+        assertThatThrownBy(() -> maxQueries(6).match(result)).isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    public void shouldPass_whenEndpointStaysWithinBudget() throws Exception {
+        // GIVEN
+        MockMvc mvc = mvc(true);
+
+        // WHEN / THEN
+        mvc.perform(get("/projects/1/budgeted"))
+                .andExpect(status().isOk())
+                .andExpect(maxQueries(2))
+                .andExpect(noNPlusOne(5));
+    }
+
+    @Test
+    public void shouldFail_whenAnnotatedBudgetIsExceededInFailMode() {
+        // GIVEN
+        MockMvc mvc = mvc(true);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> mvc.perform(get("/projects/2/budgeted")))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("ProjectsController.budgeted")
+                .hasMessageContaining("3 statements (orçamento 2)");
+    }
+
+    @Test
+    public void shouldNotCount_outsideARequest() {
+        // GIVEN / WHEN
+        String sql = counter.inspect("select 1");
+
+        // THEN
+        assertThat(sql).isEqualTo("select 1");
+    }
+
+    private MockMvc mvc(boolean failOnExceed) {
+        return MockMvcBuilders.standaloneSetup(new ProjectsController())
+                .addFilters(new SqlBudgetFilter(true, 20, 5, failOnExceed))
+                .build();
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.m42hub.m42hub_api.services.shared;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.m42hub.m42hub_api.project.controller.ProjectController;
+import com.m42hub.m42hub_api.project.service.ProjectService;
+import com.m42hub.m42hub_api.shared.export.StreamingExporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class StreamingExporterTest {
+
+    @Mock
+    private ProjectService projectService;
+
+    private MockMvc mockMvc;
+
+    private AutoCloseable mocks;
+
+    @BeforeEach
+    public void setUp() {
+        mocks = MockitoAnnotations.openMocks(this);
+        Mockito.when(projectService.findAll()).thenReturn(List.of());
+
+        ProjectController controller = new ProjectController(projectService, new StreamingExporter(new ObjectMapper()));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void shouldStreamCsvAttachment_whenAcceptIsCsv() throws Exception {
+        // WHEN
+        MvcResult result = mockMvc.perform(get("/api/v1/project").header(HttpHeaders.ACCEPT, "text/csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // THEN
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"projects.csv\""))
+                .andExpect(content().string("id,name,summary,description,status,complexity,imageUrl,creationDate,"
+                        + "startDate,endDate,tools,topics,unfilledRoles,members,discord,github,projectWebsite\r\n"));
+    }
+
+    @Test
+    public void shouldStreamNdjson_whenAcceptIsNdjson() throws Exception {
+        // WHEN
+        MvcResult result = mockMvc.perform(get("/api/v1/project").header(HttpHeaders.ACCEPT, "application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // THEN
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"projects.ndjson\""));
+    }
+
+    @Test
+    public void shouldReturnNotAcceptable_whenAcceptIsUnsupported() throws Exception {
+        // WHEN / THEN
+        mockMvc.perform(get("/api/v1/project").header(HttpHeaders.ACCEPT, "application/xml"))
+                .andExpect(status().isNotAcceptable());
+        Mockito.verify(projectService, Mockito.never()).exportAll(Mockito.any());
+    }
+
+    @Test
+    public void shouldKeepJsonListing_whenAcceptIsJson() throws Exception {
+        // WHEN / THEN
+        mockMvc.perform(get("/api/v1/project").header(HttpHeaders.ACCEPT, "application/json"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+    }
+
+}
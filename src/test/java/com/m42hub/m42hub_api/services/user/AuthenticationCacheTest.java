@@ -0,0 +1,87 @@
+package com.m42hub.m42hub_api.services.user;
+
+import com.m42hub.m42hub_api.config.AuthenticationCache;
+import com.m42hub.m42hub_api.config.AuthenticationCache.CachedAuthentication;
+import com.m42hub.m42hub_api.config.JWTUserData;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AuthenticationCacheTest {
+
+    private final AuthenticationCache authenticationCache = new AuthenticationCache(Duration.ofMinutes(5), 100);
+
+    @Test
+    public void shouldReloadUser_whenEvictedAfterLoad() {
+        // GIVEN
+        authenticationCache.get("token", () -> authentication(1L, true));
+
+        // WHEN
+        authenticationCache.evictUser(1L);
+        CachedAuthentication cached = authenticationCache.get("token", () -> authentication(1L, false));
+
+        // THEN
+        assertThat(cached.active()).isFalse();
+    }
+
+    @Test
+    public void shouldNotStoreStaleLoad_whenEvictedWhileLoading() throws Exception {
+        // GIVEN
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<CachedAuthentication> staleLoad;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            staleLoad = executor.submit(() -> authenticationCache.get("token", () -> {
+                loading.countDown();
+                await(release);
+                return authentication(1L, true);
+            }));
+            loading.await();
+
+            // WHEN
+            authenticationCache.evictUser(1L);
+            release.countDown();
+        }
+        CachedAuthentication cached = authenticationCache.get("token", () -> authentication(1L, false));
+
+        // THEN
+        assertThat(staleLoad.get().active()).isTrue();
+        assertThat(cached.active()).isFalse();
+    }
+
+    @Test
+    public void shouldKeepOtherUsers_whenEvictingOneUser() {
+        // GIVEN
+        authenticationCache.get("token-1", () -> authentication(1L, true));
+        authenticationCache.get("token-2", () -> authentication(2L, true));
+
+        // WHEN
+        authenticationCache.evictUser(1L);
+        CachedAuthentication cached = authenticationCache.get("token-2", () -> authentication(2L, false));
+
+        // THEN
+        assertThat(cached.active()).isTrue();
+    }
+
+    private static CachedAuthentication authentication(Long userId, boolean active) {
+        JWTUserData userData = JWTUserData.builder().id(userId).username("user" + userId).build();
+        return new CachedAuthentication(userData, List.of(), active);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
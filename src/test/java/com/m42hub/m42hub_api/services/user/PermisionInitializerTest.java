@@ -0,0 +1,61 @@
+package com.m42hub.m42hub_api.services.user;
+
+import com.m42hub.m42hub_api.config.PermisionInitializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PermisionInitializerTest {
+
+    static class ProjectController {
+
+        @PreAuthorize("hasRole('ADMIN') or hasAuthority('project:create')")
+        public void create() {
+        }
+
+        @PreAuthorize("hasAuthority('project:edit') and hasAuthority('project:change-status')")
+        public void changeStatus() {
+        }
+
+        @PreAuthorize("hasRole('ADMIN') or hasAuthority('project:create')")
+        public void duplicate() {
+        }
+
+        public void findAll() {
+        }
+
+    }
+
+    @PreAuthorize("hasAuthority('donation:manage')")
+    static class DonationController {
+
+        public void create() {
+        }
+
+    }
+
+    @Test
+    public void shouldExtractEachPermissionOnce_fromHandlerMethodsAndControllerClasses() throws NoSuchMethodException {
+        // GIVEN
+        ProjectController projectController = new ProjectController();
+        List<HandlerMethod> handlerMethods = List.of(
+                new HandlerMethod(projectController, ProjectController.class.getMethod("create")),
+                new HandlerMethod(projectController, ProjectController.class.getMethod("changeStatus")),
+                new HandlerMethod(projectController, ProjectController.class.getMethod("duplicate")),
+                new HandlerMethod(projectController, ProjectController.class.getMethod("findAll")),
+                new HandlerMethod(new DonationController(), DonationController.class.getMethod("create"))
+        );
+
+        // WHEN
+        Set<String> permissions = PermisionInitializer.extractPermissions(handlerMethods);
+
+        // THEN
+        assertThat(permissions).containsExactly("donation:manage", "project:change-status", "project:create", "project:edit");
+    }
+
+}
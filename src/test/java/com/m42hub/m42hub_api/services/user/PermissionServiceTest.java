@@ -125,4 +125,29 @@ public class PermissionServiceTest {
                 .containsExactly(NEW_PERMISSION_ID, NEW_PERMISSION_NAME);
         Mockito.verify(permissionRepository, Mockito.times(1)).save(newPermission);
     }
+
+    @Test
+    public void shouldRegisterAllPermissionsInOneSortedInsert_whenRegisterPermissionsIsCalled() {
+        // GIVEN
+        List<String> names = List.of(NEW_PERMISSION_NAME, PRIMARY_PERMISSION_NAME, NEW_PERMISSION_NAME, SECONDARY_PERMISSION_NAME);
+        Mockito.when(permissionRepository.insertMissing(Mockito.any())).thenReturn(1);
+
+        // WHEN
+        int inserted = permissionService.registerPermissions(names);
+
+        // THEN
+        assertThat(inserted).isEqualTo(1);
+        Mockito.verify(permissionRepository, Mockito.times(1))
+                .insertMissing(new String[]{PRIMARY_PERMISSION_NAME, SECONDARY_PERMISSION_NAME, NEW_PERMISSION_NAME});
+    }
+
+    @Test
+    public void shouldSkipDatabase_whenThereAreNoPermissionsToRegister() {
+        // GIVEN / WHEN
+        int inserted = permissionService.registerPermissions(List.of());
+
+        // THEN
+        assertThat(inserted).isZero();
+        Mockito.verifyNoInteractions(permissionRepository);
+    }
 }
\ No newline at end of file
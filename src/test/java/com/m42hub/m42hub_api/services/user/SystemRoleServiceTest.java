@@ -1,5 +1,6 @@
 package com.m42hub.m42hub_api.services.user;
 
+import com.m42hub.m42hub_api.config.AuthenticationCache;
 import com.m42hub.m42hub_api.services.util.TestUtils;
 import com.m42hub.m42hub_api.user.entity.Permission;
 import com.m42hub.m42hub_api.user.entity.SystemRole;
@@ -48,6 +49,9 @@ public class SystemRoleServiceTest {
     @Mock
     private PermissionService permissionService;
 
+    @Mock
+    private AuthenticationCache authenticationCache;
+
     @InjectMocks
     private SystemRoleService systemRoleService;
 
@@ -127,5 +131,6 @@ public class SystemRoleServiceTest {
                 .extracting(SystemRole::getId, SystemRole::getName)
                 .containsExactly(NEW_ROLE_ID, NEW_ROLE_NAME);
         Mockito.verify(systemRoleRepository, Mockito.times(1)).save(newRole);
+        Mockito.verify(authenticationCache, Mockito.times(1)).evictAll();
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.m42hub.m42hub_api.services.user;
 
+import com.m42hub.m42hub_api.config.AuthenticationCache;
+import com.m42hub.m42hub_api.config.ResourceVersions;
 import com.m42hub.m42hub_api.services.util.TestUtils;
 import com.m42hub.m42hub_api.user.entity.SystemRole;
 import com.m42hub.m42hub_api.user.entity.User;
@@ -66,6 +68,12 @@ public class UserServiceTests {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private AuthenticationCache authenticationCache;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
     @InjectMocks
     private UserService userService;
 
@@ -183,5 +191,22 @@ public class UserServiceTests {
         Mockito.verify(passwordEncoder, Mockito.times(1)).encode(RAW_PASSWORD);
         Mockito.verify(systemRoleService, Mockito.times(1)).findById(ADMIN_ROLE_ID);
         Mockito.verify(userRepository, Mockito.times(1)).save(newUser);
+        Mockito.verify(resourceVersions, Mockito.times(1)).increment("user:" + NEW_USER_USERNAME);
+    }
+
+    @Test
+    public void shouldEvictCachedAuthentication_whenChangeStatusIsCalled() {
+        // GIVEN
+        Mockito.when(userRepository.findById(JOHN_ID))
+                .thenReturn(Optional.of(john));
+
+        // WHEN
+        Optional<User> result = userService.changeStatus(JOHN_ID, false);
+
+        // THEN
+        assertThat(result).isPresent();
+        assertThat(john.getIsActive()).isFalse();
+        Mockito.verify(userRepository, Mockito.times(1)).save(john);
+        Mockito.verify(authenticationCache, Mockito.times(1)).evictUser(JOHN_ID);
     }
-}
\ No newline at end of file
+}
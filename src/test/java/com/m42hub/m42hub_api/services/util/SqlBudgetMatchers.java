@@ -0,0 +1,30 @@
+package com.m42hub.m42hub_api.services.util;
+
+import com.m42hub.m42hub_api.shared.sql.SqlRequestStats;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Asserções sobre o SQL de uma requisição feita pelo MockMvc; dependem do SqlBudgetFilter na cadeia de filtros
+public class SqlBudgetMatchers {
+
+    public static ResultMatcher maxQueries(int maxStatements) {
+        return result -> assertThat(stats(result).statementCount())
+                .as("statements em %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(maxStatements);
+    }
+
+    public static ResultMatcher noNPlusOne(int threshold) {
+        return result -> assertThat(stats(result).nPlusOneSuspects(threshold))
+                .as("statements repetidos em %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isEmpty();
+    }
+
+    public static SqlRequestStats stats(MvcResult result) {
+        Object stats = result.getRequest().getAttribute(SqlRequestStats.ATTRIBUTE);
+        assertThat(stats).as("SqlBudgetFilter não registrou a requisição").isInstanceOf(SqlRequestStats.class);
+        return (SqlRequestStats) stats;
+    }
+
+}